@@ -1,8 +1,10 @@
 package com.company.ale.alternativedata.controller;
 
-import com.company.ale.alternativedata.dto.AlternativeDataResponse;
 import com.company.ale.alternativedata.dto.ColumnPreferenceResponse;
+import com.company.ale.alternativedata.dto.FeedLoadRequest;
+import com.company.ale.alternativedata.dto.FeedLoadResponse;
 import com.company.ale.alternativedata.dto.SaveColumnPreferenceRequest;
+import com.company.ale.alternativedata.service.AlternativeDataFeedLoader;
 import com.company.ale.alternativedata.service.AlternativeDataService;
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
@@ -29,17 +31,23 @@ import jakarta.validation.constraints.NotBlank;
 public class AlternativeDataController {
     
     private final AlternativeDataService service;
+    private final AlternativeDataFeedLoader feedLoader;
     
     /**
      * Search alternative data with advanced filtering
      * POST /api/alternative-data/search
      */
     @Operation(summary = "Search alternative data",
-               description = "Search alternative data records with advanced filtering, pagination, and sorting")
+               description = "Search alternative data records with advanced filtering, pagination, and sorting. "
+                   + "With useColumnPreferences=true only the user's saved columns are selected and returned")
     @PostMapping("/search")
-    public ResponseEntity<SearchResponse<AlternativeDataResponse>> search(
-            @Valid @RequestBody SearchRequest request) {
-        SearchResponse<AlternativeDataResponse> response = service.search(request);
+    public ResponseEntity<SearchResponse<?>> search(
+            @Valid @RequestBody SearchRequest request,
+            @RequestParam(defaultValue = "false") boolean useColumnPreferences,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        SearchResponse<?> response = useColumnPreferences && userDetails != null
+            ? service.search(request, userDetails.getUsername())
+            : service.search(request);
         return ResponseEntity.ok(response);
     }
     
@@ -70,4 +78,16 @@ public class AlternativeDataController {
         ColumnPreferenceResponse response = service.saveColumnPreferences(userDetails.getUsername(), request);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Load a vendor feed file (NAV / commitments) from the feed directory
+     * POST /api/alternative-data/feeds/load
+     */
+    @Operation(summary = "Load vendor feed",
+               description = "Upsert a CSV feed file on (clientName, accountNumber, dataSource, reportDate); "
+                   + "rejected lines are written to <fileName>.rejects.csv")
+    @PostMapping("/feeds/load")
+    public ResponseEntity<FeedLoadResponse> loadFeed(@Valid @RequestBody FeedLoadRequest request) {
+        return ResponseEntity.ok(feedLoader.load(request));
+    }
 }
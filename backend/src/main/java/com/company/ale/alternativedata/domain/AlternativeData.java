@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import com.company.ale.common.filter.NgramIndexListener;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * Represents a record of alternative investment data
  */
 @Entity
+@EntityListeners(NgramIndexListener.class)
 @Table(name = "alternative_data", indexes = {
     @Index(name = "idx_client_account", columnList = "client_name,account_number"),
     @Index(name = "idx_report_date", columnList = "report_date"),
@@ -0,0 +1,21 @@
+package com.company.ale.alternativedata.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Request DTO for loading a vendor feed file into alternative data
+ * Used by POST /api/alternative-data/feeds/load endpoint
+ */
+@Value
+@Builder
+public class FeedLoadRequest {
+    
+    // File name inside the feed directory (ale.alternative-data.feed.directory)
+    @NotBlank(message = "File name is required")
+    private String fileName;
+    
+    // Data source for rows whose dataSource column is missing or blank
+    private String dataSource;
+}
@@ -0,0 +1,30 @@
+package com.company.ale.alternativedata.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response DTO for a vendor feed load
+ */
+@Value
+@Builder
+public class FeedLoadResponse {
+    
+    private String fileName;
+    
+    private long rowsRead;
+    
+    private long inserted;
+    
+    private long updated;
+    
+    // Lines whose key appears again later in the file (only the last line is written)
+    private long superseded;
+    
+    private long rejected;
+    
+    // Side file listing rejected lines with the reason, null when nothing was rejected
+    private String rejectsFile;
+    
+    private long durationMs;
+}
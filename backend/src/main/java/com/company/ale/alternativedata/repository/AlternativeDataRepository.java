@@ -4,6 +4,7 @@ import com.company.ale.alternativedata.domain.AlternativeData;
 import com.company.ale.alternativedata.domain.DataStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,4 +20,18 @@ public interface AlternativeDataRepository extends JpaRepository<AlternativeData
     List<AlternativeData> findByStatusAndReportDate(DataStatus status, LocalDate reportDate);
     
     List<AlternativeData> findByDataSource(String dataSource);
+
+    /**
+     * Record counts per status in one grouped query (dashboard summary)
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM AlternativeData a GROUP BY a.status")
+    List<StatusCount> countByStatus();
+
+    /**
+     * Row of countByStatus
+     */
+    interface StatusCount {
+        DataStatus getStatus();
+        long getTotal();
+    }
 }
@@ -0,0 +1,53 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.domain.AlternativeData;
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.common.export.ExportService;
+import com.company.ale.common.export.ExportSource;
+import com.company.ale.common.export.ExportTask;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchRequest;
+import com.company.ale.common.pagination.SortUtil;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Export source for alternative data search results
+ */
+@Component
+@RequiredArgsConstructor
+public class AlternativeDataExportSource implements ExportSource {
+    
+    private final AuthorizationService authorizationService;
+    private final AlternativeDataMapper mapper;
+    private final ExportService exportService;
+    private final NgramIndexRegistry ngramIndexes;
+    
+    @Override
+    public ExportModule getModule() {
+        return ExportModule.ALTERNATIVE_DATA;
+    }
+    
+    @Override
+    public String getFileName() {
+        return "alternative-data";
+    }
+    
+    /**
+     * Check RULE_EXPORT and bind the filters; pagination is ignored
+     */
+    @Override
+    public ExportTask prepare(SearchRequest request) {
+        authorizationService.checkPermission(RuleType.RULE_EXPORT);
+        
+        AlternativeDataSpecification spec = new AlternativeDataSpecification(
+            request.getFilters(), ngramIndexes.forEntity(AlternativeData.class));
+        Sort sort = SortUtil.toSort(request.getSort());
+        
+        return (writer, progress) -> exportService.export(AlternativeData.class, spec, sort,
+            mapper.exportProjection(), mapper.exportColumns(), writer, progress);
+    }
+}
@@ -0,0 +1,570 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.domain.DataStatus;
+import com.company.ale.alternativedata.dto.FeedLoadRequest;
+import com.company.ale.alternativedata.dto.FeedLoadResponse;
+import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.export.CsvExportWriter;
+import com.company.ale.common.export.ExportWriter;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loads vendor NAV / commitment CSV drops into alternative data.
+ *
+ * The file is memory-mapped and split into line-aligned chunks that are parsed
+ * in parallel on a dedicated fork-join pool, in two passes:
+ * 1. Index: every valid row records its natural key with the file offset of the
+ *    line; the highest offset (= the last line) per key is kept. Each chunk also
+ *    counts its lines, so the second pass knows absolute line numbers.
+ * 2. Load: rows are parsed again and only the last line of each key is upserted,
+ *    in batches (see AlternativeDataFeedWriter). Each key is written once whatever
+ *    order the chunks finish in; batches are written one at a time so concurrent
+ *    loads cannot insert the same key twice. Each batch commits on its own.
+ * Rows that fail to parse (or whose batch fails) are streamed with their line
+ * number and the reason to a side file <fileName>.rejects.csv next to the feed,
+ * in the order they occur.
+ *
+ * Feed format: UTF-8 CSV with a header row naming AlternativeData attributes
+ * (camelCase or snake_case, any case); clientName, accountNumber, reportDate
+ * (ISO date) and dataSource (or FeedLoadRequest.dataSource) are required.
+ * Quoted fields may contain commas and quotes but not line breaks. When a key
+ * repeats in the file, the last line wins; the earlier ones are counted as superseded.
+ *
+ * Configuration is read from application.properties:
+ * - ale.alternative-data.feed.directory: Directory feed files are loaded from
+ * - ale.alternative-data.feed.chunk-bytes: Bytes per parallel chunk (default: 16 MB)
+ * - ale.alternative-data.feed.batch-size: Rows per upsert batch (default: 1000)
+ * - ale.alternative-data.feed.parallelism: Parsing threads, 0 = available processors (default: 0)
+ */
+@Service
+@Slf4j
+public class AlternativeDataFeedLoader {
+
+    private static final List<String> COLUMNS = List.of("clientName", "accountNumber", "fundFamily",
+        "assetDescription", "dataSource", "reportDate", "status", "navValue", "commitmentAmount", "dataAttributes");
+    private static final List<String> REQUIRED_COLUMNS = List.of("clientName", "accountNumber", "reportDate");
+    private static final int MAX_LENGTH = 255;
+    private static final int MAX_DATA_ATTRIBUTES_LENGTH = 2000;
+    private static final String REJECTS_SUFFIX = ".rejects.csv";
+
+    private final AlternativeDataFeedWriter writer;
+    private final AuthorizationService authorizationService;
+    private final Path directory;
+    private final int chunkBytes;
+    private final int batchSize;
+    private final ForkJoinPool pool;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public AlternativeDataFeedLoader(AlternativeDataFeedWriter writer,
+                                     AuthorizationService authorizationService,
+                                     @Value("${ale.alternative-data.feed.directory:${java.io.tmpdir}/ale-feeds}") String directory,
+                                     @Value("${ale.alternative-data.feed.chunk-bytes:16777216}") int chunkBytes,
+                                     @Value("${ale.alternative-data.feed.batch-size:1000}") int batchSize,
+                                     @Value("${ale.alternative-data.feed.parallelism:0}") int parallelism) {
+        this.writer = writer;
+        this.authorizationService = authorizationService;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.chunkBytes = chunkBytes;
+        this.batchSize = batchSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Load a feed file from the feed directory
+     */
+    public FeedLoadResponse load(FeedLoadRequest request) {
+        authorizationService.checkPermission(RuleType.RULE_CREATE);
+        Path file = resolve(request.getFileName());
+        String username = getCurrentUser();
+        long started = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = nextLineStart(channel, 0, size);
+            FeedHeader header = parseHeader(readHeader(channel, headerEnd), request.getDataSource());
+            List<long[]> chunks = split(channel, headerEnd, size);
+
+            // 1. Index: natural key -> offset of its last line, and lines per chunk
+            Map<List<Object>, Long> lastOffsets = new ConcurrentHashMap<>();
+            List<Callable<Long>> indexTasks = new ArrayList<>(chunks.size());
+            for (long[] chunk : chunks) {
+                indexTasks.add(() -> indexChunk(channel, chunk[0], chunk[1], header, lastOffsets));
+            }
+            List<Long> chunkLines = invokeAll(indexTasks);
+
+            // 2. Load: the last line of each key, rejects streamed to the side file
+            Path rejectsPath = rejectsFile(file);
+            Files.deleteIfExists(rejectsPath);
+            List<ChunkResult> results;
+            long rejected;
+            try (RejectsFile rejects = new RejectsFile(rejectsPath)) {
+                List<Callable<ChunkResult>> tasks = new ArrayList<>(chunks.size());
+                // The header is line 1
+                long firstLine = 2;
+                for (int i = 0; i < chunks.size(); i++) {
+                    long[] chunk = chunks.get(i);
+                    long chunkFirstLine = firstLine;
+                    tasks.add(() -> loadChunk(channel, chunk[0], chunk[1], chunkFirstLine, header, lastOffsets, username, rejects));
+                    firstLine += chunkLines.get(i);
+                }
+                results = invokeAll(tasks);
+                rejected = rejects.count();
+            }
+
+            long rowsRead = 0;
+            long inserted = 0;
+            long updated = 0;
+            long superseded = 0;
+            for (ChunkResult result : results) {
+                rowsRead += result.rowsRead;
+                inserted += result.inserted;
+                updated += result.updated;
+                superseded += result.superseded;
+            }
+            log.info("Feed {} loaded: {} rows, {} inserted, {} updated, {} superseded, {} rejected",
+                request.getFileName(), rowsRead, inserted, updated, superseded, rejected);
+            return FeedLoadResponse.builder()
+                .fileName(request.getFileName())
+                .rowsRead(rowsRead)
+                .inserted(inserted)
+                .updated(updated)
+                .superseded(superseded)
+                .rejected(rejected)
+                .rejectsFile(rejected > 0 ? rejectsPath.getFileName().toString() : null)
+                .durationMs((System.nanoTime() - started) / 1_000_000)
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read feed file " + request.getFileName(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Feed load interrupted: " + request.getFileName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Feed load failed: " + request.getFileName(), e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> future : pool.invokeAll(tasks)) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    // Pass 1: record the offset of each valid row under its natural key (highest wins)
+    private long indexChunk(FileChannel channel, long start, long end, FeedHeader header,
+                            Map<List<Object>, Long> lastOffsets) throws IOException {
+        return forEachLine(channel, start, end, (offset, index, line) -> {
+            if (line.isBlank()) {
+                return;
+            }
+            try {
+                lastOffsets.merge(parseRow(line, 0, header).naturalKey(), offset, Math::max);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                // Rejected in pass 2
+            }
+        });
+    }
+
+    // Pass 2: parse one chunk, upserting the last line of each key every batchSize rows
+    private ChunkResult loadChunk(FileChannel channel, long start, long end, long firstLine, FeedHeader header,
+                                  Map<List<Object>, Long> lastOffsets, String username, RejectsFile rejects)
+            throws IOException {
+        ChunkResult result = new ChunkResult();
+        List<AlternativeDataFeedRow> batch = new ArrayList<>();
+        Map<Long, String> batchLines = new HashMap<>();
+
+        forEachLine(channel, start, end, (offset, index, line) -> {
+            if (line.isBlank()) {
+                return;
+            }
+            result.rowsRead++;
+            long lineNumber = firstLine + index;
+            AlternativeDataFeedRow row;
+            try {
+                row = parseRow(line, lineNumber, header);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                rejects.add(lineNumber, e.getMessage(), line);
+                return;
+            }
+            Long lastOffset = lastOffsets.get(row.naturalKey());
+            if (lastOffset == null || lastOffset != offset) {
+                // A later line of the file has the same key
+                result.superseded++;
+                return;
+            }
+            batch.add(row);
+            batchLines.put(lineNumber, line);
+            if (batch.size() >= batchSize) {
+                flush(batch, batchLines, header, username, result, rejects);
+            }
+        });
+        flush(batch, batchLines, header, username, result, rejects);
+        return result;
+    }
+
+    // Calls action for every line of [start, end) with the file offset of the line and
+    // its index within the chunk; returns the number of lines
+    private static long forEachLine(FileChannel channel, long start, long end, LineAction action) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        int lineStart = 0;
+        long lines = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') {
+                continue;
+            }
+            if (i == limit && lineStart == limit) {
+                break;
+            }
+            action.accept(start + lineStart, lines++, decode(buffer, lineStart, i));
+            lineStart = i + 1;
+        }
+        return lines;
+    }
+
+    // Rows of a batch have distinct keys: each key reaches the writer once per load
+    private void flush(List<AlternativeDataFeedRow> batch, Map<Long, String> batchLines,
+                       FeedHeader header, String username, ChunkResult result, RejectsFile rejects) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<AlternativeDataFeedRow> rows = List.copyOf(batch);
+        writeLock.lock();
+        try {
+            int inserted = writer.upsert(rows, header.provided, username);
+            result.inserted += inserted;
+            result.updated += rows.size() - inserted;
+        } catch (DataAccessException e) {
+            String reason = "Batch failed: " + e.getMostSpecificCause().getMessage();
+            log.warn("Feed batch of {} rows failed: {}", rows.size(), reason);
+            for (AlternativeDataFeedRow row : rows) {
+                rejects.add(row.getLineNumber(), reason, batchLines.get(row.getLineNumber()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private AlternativeDataFeedRow parseRow(String line, long lineNumber, FeedHeader header) {
+        List<String> fields = parseCsvLine(line);
+        if (fields.size() != header.fieldCount) {
+            throw new IllegalArgumentException("Expected " + header.fieldCount + " fields, found " + fields.size());
+        }
+
+        String dataSource = header.value(fields, "dataSource");
+        String status = header.value(fields, "status");
+        String reportDate = header.value(fields, "reportDate");
+        AlternativeDataFeedRow row = AlternativeDataFeedRow.builder()
+            .lineNumber(lineNumber)
+            .clientName(header.value(fields, "clientName"))
+            .accountNumber(header.value(fields, "accountNumber"))
+            .fundFamily(header.value(fields, "fundFamily"))
+            .assetDescription(header.value(fields, "assetDescription"))
+            .dataSource(dataSource != null ? dataSource : header.defaultDataSource)
+            .reportDate(reportDate != null ? LocalDate.parse(reportDate) : null)
+            .status(status != null ? parseStatus(status) : null)
+            .navValue(header.value(fields, "navValue"))
+            .commitmentAmount(header.value(fields, "commitmentAmount"))
+            .dataAttributes(header.value(fields, "dataAttributes"))
+            .build();
+
+        if (row.getClientName() == null || row.getAccountNumber() == null
+                || row.getDataSource() == null || row.getReportDate() == null) {
+            throw new IllegalArgumentException("clientName, accountNumber, dataSource and reportDate are required");
+        }
+        checkLength("clientName", row.getClientName(), MAX_LENGTH);
+        checkLength("accountNumber", row.getAccountNumber(), MAX_LENGTH);
+        checkLength("fundFamily", row.getFundFamily(), MAX_LENGTH);
+        checkLength("assetDescription", row.getAssetDescription(), MAX_LENGTH);
+        checkLength("dataSource", row.getDataSource(), MAX_LENGTH);
+        checkLength("navValue", row.getNavValue(), MAX_LENGTH);
+        checkLength("commitmentAmount", row.getCommitmentAmount(), MAX_LENGTH);
+        checkLength("dataAttributes", row.getDataAttributes(), MAX_DATA_ATTRIBUTES_LENGTH);
+        return row;
+    }
+
+    private FeedHeader parseHeader(String line, String defaultDataSource) {
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        List<String> names = parseCsvLine(line);
+        FeedHeader header = new FeedHeader(names.size(),
+            defaultDataSource != null && !defaultDataSource.isBlank() ? defaultDataSource.trim() : null);
+        for (int i = 0; i < names.size(); i++) {
+            String name = normalize(names.get(i));
+            for (String column : COLUMNS) {
+                if (normalize(column).equals(name)) {
+                    header.positions.put(column, i);
+                }
+            }
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!header.positions.containsKey(column)) {
+                throw new ValidationException("Feed header is missing required column: " + column, "VAL_017");
+            }
+        }
+        if (!header.positions.containsKey("dataSource") && header.defaultDataSource == null) {
+            throw new ValidationException("Feed has no dataSource column and no dataSource was given", "VAL_017");
+        }
+        for (String column : AlternativeDataFeedWriter.OPTIONAL_COLUMNS.keySet()) {
+            if (header.positions.containsKey(column)) {
+                header.provided.add(column);
+            }
+        }
+        return header;
+    }
+
+    // Split [start, size) into chunks of about chunkBytes that end on a line break
+    private List<long[]> split(FileChannel channel, long start, long size) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long position = start;
+        while (position < size) {
+            long end = size - position <= chunkBytes ? size : nextLineStart(channel, position + chunkBytes, size);
+            chunks.add(new long[] {position, end});
+            position = end;
+        }
+        return chunks;
+    }
+
+    private long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private String readHeader(FileChannel channel, long headerEnd) throws IOException {
+        if (headerEnd == 0) {
+            throw new ValidationException("Feed file is empty", "VAL_017");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd);
+        return decode(buffer, 0, (int) headerEnd - (buffer.get((int) headerEnd - 1) == '\n' ? 1 : 0));
+    }
+
+    // UTF-8 text of [from, to), without a trailing carriage return
+    private static String decode(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length > 0 && buffer.get(to - 1) == '\r') {
+            length--;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // RFC 4180 fields of a single line
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field (line breaks inside fields are not supported)");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private Path rejectsFile(Path file) {
+        return file.resolveSibling(file.getFileName() + REJECTS_SUFFIX);
+    }
+
+    private Path resolve(String fileName) {
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || file.getFileName().toString().endsWith(REJECTS_SUFFIX)) {
+            throw new ValidationException("Invalid feed file name: " + fileName, "VAL_017");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Feed file not found: " + fileName);
+        }
+        return file;
+    }
+
+    private static DataStatus parseStatus(String status) {
+        try {
+            return DataStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+    }
+
+    private static void checkLength(String column, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(column + " is longer than " + max + " characters");
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    // Helper method to get current authenticated user
+    private String getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "SYSTEM";
+    }
+
+    /**
+     * Column positions of a feed file
+     */
+    private static final class FeedHeader {
+        private final int fieldCount;
+        private final String defaultDataSource;
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final Set<String> provided = new LinkedHashSet<>();
+
+        private FeedHeader(int fieldCount, String defaultDataSource) {
+            this.fieldCount = fieldCount;
+            this.defaultDataSource = defaultDataSource;
+        }
+
+        // Trimmed value of a column, null when absent or blank
+        private String value(List<String> fields, String column) {
+            Integer position = positions.get(column);
+            if (position == null) {
+                return null;
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * Counters of one chunk
+     */
+    private static final class ChunkResult {
+        private long rowsRead;
+        private long inserted;
+        private long updated;
+        private long superseded;
+    }
+
+    @FunctionalInterface
+    private interface LineAction {
+        void accept(long offset, long index, String line);
+    }
+
+    /**
+     * Rejects side file, written as rejects occur; created on the first reject
+     */
+    private static final class RejectsFile implements Closeable {
+        private final Path path;
+        private OutputStream out;
+        private ExportWriter csv;
+        private long count;
+
+        private RejectsFile(Path path) {
+            this.path = path;
+        }
+
+        private synchronized void add(long line, String reason, String content) {
+            try {
+                if (csv == null) {
+                    out = Files.newOutputStream(path);
+                    csv = new CsvExportWriter(out, 65536);
+                    csv.writeHeader(List.of("line", "reason", "content"));
+                }
+                csv.writeRow(Arrays.asList(line, reason, content));
+                count++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write rejects file " + path.getFileName(), e);
+            }
+        }
+
+        private synchronized long count() {
+            return count;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (out == null) {
+                return;
+            }
+            try {
+                csv.finish();
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.domain.DataStatus;
+import lombok.Builder;
+import lombok.Value;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One parsed line of a vendor feed file (see AlternativeDataFeedLoader)
+ * Property names match AlternativeData so the n-gram index can read them.
+ */
+@Value
+@Builder
+class AlternativeDataFeedRow {
+
+    long lineNumber;
+    String clientName;
+    String accountNumber;
+    String fundFamily;
+    String assetDescription;
+    String dataSource;
+    LocalDate reportDate;
+    DataStatus status;
+    String navValue;
+    String commitmentAmount;
+    String dataAttributes;
+
+    /**
+     * Natural key the feed is upserted on
+     */
+    List<Object> naturalKey() {
+        return List.of(clientName, accountNumber, dataSource, reportDate);
+    }
+}
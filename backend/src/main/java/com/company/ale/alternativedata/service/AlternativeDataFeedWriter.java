@@ -0,0 +1,204 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.domain.AlternativeData;
+import com.company.ale.alternativedata.domain.DataStatus;
+import com.company.ale.common.filter.NgramIndex;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Upserts vendor feed rows into alternative_data on the natural key
+ * (clientName, accountNumber, dataSource, reportDate) with plain JDBC batches.
+ *
+ * Each batch is one transaction: existing ids are probed with one query (served
+ * by idx_client_account / idx_report_date), matches get a batched UPDATE and the
+ * rest a batched INSERT. Optional columns missing from the feed keep their stored
+ * value on update. The rows bypass JPA, so the n-gram index is updated here the
+ * same way NgramIndexListener does it: grams added now, committed values after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlternativeDataFeedWriter {
+
+    /**
+     * Optional feed columns (entity attribute -> table column)
+     */
+    static final Map<String, String> OPTIONAL_COLUMNS = optionalColumns();
+
+    private static final String PROBE_SQL =
+        "SELECT id, client_name, account_number, data_source, report_date FROM alternative_data "
+        + "WHERE client_name IN (:clients) AND account_number IN (:accounts) AND report_date IN (:dates) "
+        + "ORDER BY id";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO alternative_data (client_name, account_number, fund_family, asset_description, data_source, "
+        + "report_date, status, nav_value, commitment_amount, data_attributes, created_at, created_by, "
+        + "modified_at, modified_by, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NgramIndexRegistry ngramIndexes;
+
+    /**
+     * Upsert one batch of rows with distinct natural keys
+     * @param rows the parsed rows
+     * @param providedColumns optional attributes present in the feed header
+     * @param username the user running the load (audit fields)
+     * @return number of inserted rows; the others were updated
+     */
+    @Transactional
+    public int upsert(List<AlternativeDataFeedRow> rows, Set<String> providedColumns, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<List<Object>, Long> existing = findIds(rows);
+
+        List<AlternativeDataFeedRow> updates = new ArrayList<>();
+        List<AlternativeDataFeedRow> inserts = new ArrayList<>();
+        for (AlternativeDataFeedRow row : rows) {
+            (existing.containsKey(row.naturalKey()) ? updates : inserts).add(row);
+        }
+
+        if (!updates.isEmpty()) {
+            List<String> columns = OPTIONAL_COLUMNS.keySet().stream()
+                .filter(providedColumns::contains)
+                .toList();
+            List<Object[]> args = new ArrayList<>(updates.size());
+            for (AlternativeDataFeedRow row : updates) {
+                Object[] values = new Object[columns.size() + 3];
+                for (int i = 0; i < columns.size(); i++) {
+                    values[i] = valueOf(row, columns.get(i));
+                }
+                values[columns.size()] = now;
+                values[columns.size() + 1] = username;
+                values[columns.size() + 2] = existing.get(row.naturalKey());
+                args.add(values);
+            }
+            jdbcTemplate.getJdbcTemplate().batchUpdate(updateSql(columns), args);
+        }
+
+        if (!inserts.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(inserts.size());
+            for (AlternativeDataFeedRow row : inserts) {
+                args.add(new Object[] {
+                    row.getClientName(), row.getAccountNumber(), row.getFundFamily(), row.getAssetDescription(),
+                    row.getDataSource(), row.getReportDate(),
+                    (row.getStatus() != null ? row.getStatus() : DataStatus.DRAFT).name(),
+                    row.getNavValue(), row.getCommitmentAmount(), row.getDataAttributes(),
+                    now, username, now, username
+                });
+            }
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, args);
+        }
+
+        index(updates, existing, inserts);
+        return inserts.size();
+    }
+
+    // Updated rows only gain grams (columns missing from the feed keep older values);
+    // inserted rows are recorded with their full committed values
+    private void index(List<AlternativeDataFeedRow> updates, Map<List<Object>, Long> existing,
+                       List<AlternativeDataFeedRow> inserts) {
+        NgramIndex index = ngramIndexes.forEntity(AlternativeData.class);
+        if (index == null) {
+            return;
+        }
+        for (AlternativeDataFeedRow row : updates) {
+            index.add(existing.get(row.naturalKey()), index.valuesOf(row));
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        Map<List<Object>, Long> inserted = findIds(inserts);
+        Map<Long, String[]> committed = new HashMap<>();
+        for (AlternativeDataFeedRow row : inserts) {
+            Long id = inserted.get(row.naturalKey());
+            if (id != null) {
+                String[] values = index.valuesOf(row);
+                index.add(id, values);
+                committed.put(id, values);
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committed.forEach(index::put);
+            }
+        });
+    }
+
+    // Natural key -> id; the lowest id wins if the table already holds duplicates
+    private Map<List<Object>, Long> findIds(Collection<AlternativeDataFeedRow> rows) {
+        Set<Object> keys = new HashSet<>();
+        Set<String> clients = new HashSet<>();
+        Set<String> accounts = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (AlternativeDataFeedRow row : rows) {
+            keys.add(row.naturalKey());
+            clients.add(row.getClientName());
+            accounts.add(row.getAccountNumber());
+            dates.add(row.getReportDate());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("clients", clients)
+            .addValue("accounts", accounts)
+            .addValue("dates", dates);
+        Map<List<Object>, Long> ids = new HashMap<>();
+        jdbcTemplate.query(PROBE_SQL, params, rs -> {
+            List<Object> key = List.of(rs.getString("client_name"), rs.getString("account_number"),
+                rs.getString("data_source"), rs.getObject("report_date", LocalDate.class));
+            if (keys.contains(key)) {
+                ids.putIfAbsent(key, rs.getLong("id"));
+            }
+        });
+        return ids;
+    }
+
+    // Status is never cleared: a blank status in the feed keeps the stored one
+    private static String updateSql(List<String> columns) {
+        StringBuilder sql = new StringBuilder("UPDATE alternative_data SET ");
+        for (String column : columns) {
+            String name = OPTIONAL_COLUMNS.get(column);
+            sql.append(name).append(column.equals("status") ? " = COALESCE(CAST(? AS VARCHAR(255)), status), " : " = ?, ");
+        }
+        return sql.append("modified_at = ?, modified_by = ?, version = version + 1 WHERE id = ?").toString();
+    }
+
+    private static Object valueOf(AlternativeDataFeedRow row, String column) {
+        return switch (column) {
+            case "fundFamily" -> row.getFundFamily();
+            case "assetDescription" -> row.getAssetDescription();
+            case "status" -> row.getStatus() != null ? row.getStatus().name() : null;
+            case "navValue" -> row.getNavValue();
+            case "commitmentAmount" -> row.getCommitmentAmount();
+            case "dataAttributes" -> row.getDataAttributes();
+            default -> throw new IllegalArgumentException("Unknown feed column: " + column);
+        };
+    }
+
+    private static Map<String, String> optionalColumns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("fundFamily", "fund_family");
+        columns.put("assetDescription", "asset_description");
+        columns.put("status", "status");
+        columns.put("navValue", "nav_value");
+        columns.put("commitmentAmount", "commitment_amount");
+        columns.put("dataAttributes", "data_attributes");
+        return columns;
+    }
+}
@@ -3,8 +3,17 @@ package com.company.ale.alternativedata.service;
 import com.company.ale.alternativedata.domain.AlternativeData;
 import com.company.ale.alternativedata.domain.UserColumnPreference;
 import com.company.ale.alternativedata.dto.AlternativeDataResponse;
+import com.company.ale.alternativedata.domain.DataStatus;
 import com.company.ale.alternativedata.dto.ColumnPreferenceResponse;
+import com.company.ale.common.export.ExportColumn;
+import com.company.ale.common.pagination.SearchProjection;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Mapper for Alternative Data entities to DTOs
@@ -39,7 +48,92 @@ public class AlternativeDataMapper {
     }
     
     /**
-     * Convert UserColumnPreference entity to ColumnPreferenceResponse
+     * Columns of the alternative data export, in file order
+     */
+    private static final List<ExportColumn<AlternativeDataResponse>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("ID", AlternativeDataResponse::getId),
+        ExportColumn.of("Client Name", AlternativeDataResponse::getClientName),
+        ExportColumn.of("Account Number", AlternativeDataResponse::getAccountNumber),
+        ExportColumn.of("Fund Family", AlternativeDataResponse::getFundFamily),
+        ExportColumn.of("Asset Description", AlternativeDataResponse::getAssetDescription),
+        ExportColumn.of("Data Source", AlternativeDataResponse::getDataSource),
+        ExportColumn.of("Report Date", AlternativeDataResponse::getReportDate),
+        ExportColumn.of("Status", AlternativeDataResponse::getStatus),
+        ExportColumn.of("NAV Value", AlternativeDataResponse::getNavValue),
+        ExportColumn.of("Commitment Amount", AlternativeDataResponse::getCommitmentAmount),
+        ExportColumn.of("Created At", AlternativeDataResponse::getCreatedAt),
+        ExportColumn.of("Created By", AlternativeDataResponse::getCreatedBy),
+        ExportColumn.of("Modified At", AlternativeDataResponse::getModifiedAt),
+        ExportColumn.of("Modified By", AlternativeDataResponse::getModifiedBy));
+    
+    /**
+     * Projection of every response column, used by the export
+     */
+    private final SearchProjection<AlternativeDataResponse> exportProjection = responseProjection(List.of(
+        "id", "clientName", "accountNumber", "fundFamily", "assetDescription", "dataSource", "reportDate",
+        "status", "navValue", "commitmentAmount", "createdAt", "createdBy", "modifiedAt", "modifiedBy"));
+    
+    /**
+     * Columns written by the export, read from exportProjection() rows
+     */
+    public List<ExportColumn<AlternativeDataResponse>> exportColumns() {
+        return EXPORT_COLUMNS;
+    }
+    
+    public SearchProjection<AlternativeDataResponse> exportProjection() {
+        return exportProjection;
+    }
+    
+    /**
+     * Projection selecting only the given (whitelisted) columns, as rows keyed by column name
+     * Columns outside the selection are absent from the row (and so from the JSON record)
+     */
+    public SearchProjection<Map<String, Object>> sparseProjection(List<String> columns) {
+        return SearchProjection.of(columns, tuple -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : columns) {
+                row.put(column, tuple.get(column));
+            }
+            return row;
+        });
+    }
+    
+    /**
+     * Projection reading the given columns into AlternativeDataResponse; the other fields stay null
+     */
+    private SearchProjection<AlternativeDataResponse> responseProjection(List<String> columns) {
+        return SearchProjection.of(columns, tuple -> toResponse(tuple, columns));
+    }
+    
+    /**
+     * Convert a projection tuple to AlternativeDataResponse
+     */
+    private AlternativeDataResponse toResponse(Tuple tuple, List<String> columns) {
+        AlternativeDataResponse.AlternativeDataResponseBuilder builder = AlternativeDataResponse.builder();
+        for (String column : columns) {
+            switch (column) {
+                case "id" -> builder.id(tuple.get(column, Long.class));
+                case "clientName" -> builder.clientName(tuple.get(column, String.class));
+                case "accountNumber" -> builder.accountNumber(tuple.get(column, String.class));
+                case "fundFamily" -> builder.fundFamily(tuple.get(column, String.class));
+                case "assetDescription" -> builder.assetDescription(tuple.get(column, String.class));
+                case "dataSource" -> builder.dataSource(tuple.get(column, String.class));
+                case "reportDate" -> builder.reportDate(tuple.get(column, LocalDate.class));
+                case "status" -> builder.status(tuple.get(column, DataStatus.class));
+                case "navValue" -> builder.navValue(tuple.get(column, String.class));
+                case "commitmentAmount" -> builder.commitmentAmount(tuple.get(column, String.class));
+                case "createdAt" -> builder.createdAt(tuple.get(column, LocalDateTime.class));
+                case "createdBy" -> builder.createdBy(tuple.get(column, String.class));
+                case "modifiedAt" -> builder.modifiedAt(tuple.get(column, LocalDateTime.class));
+                case "modifiedBy" -> builder.modifiedBy(tuple.get(column, String.class));
+                default -> throw new IllegalArgumentException("Unsupported column: " + column);
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Convert UserColumnPreference entity to ColumnPreferenceResponse (immutable lists, safe to cache)
      */
     public ColumnPreferenceResponse toPreferenceResponse(UserColumnPreference entity) {
         if (entity == null) {
@@ -51,8 +145,8 @@ public class AlternativeDataMapper {
             .userId(entity.getUserId())
             .moduleName(entity.getModuleName())
             .viewName(entity.getViewName())
-            .columns(entity.getColumnNames())
-            .displayOrder(entity.getDisplayOrder())
+            .columns(entity.getColumnNames() != null ? List.copyOf(entity.getColumnNames()) : null)
+            .displayOrder(entity.getDisplayOrder() != null ? List.copyOf(entity.getDisplayOrder()) : null)
             .isDefault(entity.getIsDefault())
             .updatedAt(entity.getUpdatedAt())
             .build();
@@ -1,6 +1,7 @@
 package com.company.ale.alternativedata.service;
 
 import com.company.ale.alternativedata.domain.AlternativeData;
+import com.company.ale.alternativedata.domain.DataStatus;
 import com.company.ale.alternativedata.domain.UserColumnPreference;
 import com.company.ale.alternativedata.dto.AlternativeDataResponse;
 import com.company.ale.alternativedata.dto.ColumnPreferenceResponse;
@@ -9,18 +10,22 @@ import com.company.ale.alternativedata.repository.AlternativeDataRepository;
 import com.company.ale.alternativedata.repository.UserColumnPreferenceRepository;
 import com.company.ale.alternativedata.validator.AlternativeDataValidator;
 import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchExecutor;
+import com.company.ale.common.pagination.SearchPage;
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
 import com.company.ale.common.security.AuthorizationService;
 import com.company.ale.common.security.RuleType;
-import com.company.ale.documenttracker.service.SortUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +37,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AlternativeDataService {
     
+    /**
+     * Module name the frontend stores alternative data column preferences under
+     */
+    private static final String MODULE_NAME = "ALTERNATIVE_DATA";
+    
     private final AlternativeDataRepository repository;
     private final UserColumnPreferenceRepository preferenceRepository;
     private final AuthorizationService authorizationService;
     private final AlternativeDataValidator validator;
     private final AlternativeDataMapper mapper;
+    private final SearchExecutor searchExecutor;
+    private final NgramIndexRegistry ngramIndexes;
+    private final ColumnPreferenceCache preferenceCache;
     
     /**
      * Search alternative data with filters
@@ -44,38 +57,64 @@ public class AlternativeDataService {
     public SearchResponse<AlternativeDataResponse> search(SearchRequest request) {
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         
-        AlternativeDataSpecification spec = new AlternativeDataSpecification(request.getFilters());
-        
-        Pageable pageable = PageRequest.of(
-            request.getPagination().getPageOrDefault(),
-            request.getPagination().getSizeOrDefault(),
-            SortUtil.toSort(request.getSort())
-        );
+        AlternativeDataSpecification spec = new AlternativeDataSpecification(request.getFilters(), ngramIndexes.forEntity(AlternativeData.class));
         
-        Page<AlternativeData> page = repository.findAll(spec, pageable);
+        SearchPage<AlternativeData> page = searchExecutor.search(repository, AlternativeData.class, spec, request);
         
         return SearchResponse.<AlternativeDataResponse>builder()
-            .data(page.map(mapper::toResponse).getContent())
-            .pagination(com.company.ale.common.pagination.PaginationMetadata.builder()
-                .currentPage(page.getNumber())
-                .pageSize(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .build())
+            .data(page.getContent().stream().map(mapper::toResponse).collect(Collectors.toList()))
+            .pagination(page.toMetadata())
+            .build();
+    }
+    
+    /**
+     * Search alternative data selecting only the user's saved columns (records keyed by column)
+     * Falls back to the full search when the user has no saved preference
+     */
+    public SearchResponse<?> search(SearchRequest request, String userId) {
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        List<String> columns = preferenceCache.get(userId, MODULE_NAME, this::loadPreference).getSearchColumns();
+        if (columns == null) {
+            return search(request);
+        }
+        
+        AlternativeDataSpecification spec = new AlternativeDataSpecification(request.getFilters(), ngramIndexes.forEntity(AlternativeData.class));
+        
+        SearchPage<Map<String, Object>> page = searchExecutor.search(
+            repository, AlternativeData.class, spec, request, mapper.sparseProjection(columns));
+        
+        return SearchResponse.<Map<String, Object>>builder()
+            .data(page.getContent())
+            .pagination(page.toMetadata())
             .build();
     }
     
+    /**
+     * Record counts per status, every status included (0 when empty)
+     */
+    public Map<String, Long> getStatusTotals() {
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (DataStatus status : DataStatus.values()) {
+            totals.put(status.name(), 0L);
+        }
+        for (AlternativeDataRepository.StatusCount row : repository.countByStatus()) {
+            if (row.getStatus() != null) {
+                totals.put(row.getStatus().name(), row.getTotal());
+            }
+        }
+        return totals;
+    }
+    
     /**
      * Get column preferences for a user and module
      */
     public ColumnPreferenceResponse getColumnPreferences(String userId, String moduleName) {
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         
-        UserColumnPreference preference = preferenceRepository
-            .findByUserIdAndModuleName(userId, moduleName)
-            .orElseGet(() -> createDefaultPreferences(userId, moduleName));
-        
-        return mapper.toPreferenceResponse(preference);
+        return preferenceCache.get(userId, moduleName, this::loadPreference).getResponse();
     }
     
     /**
@@ -102,7 +141,38 @@ public class AlternativeDataService {
         preference.setUpdatedAt(LocalDateTime.now());
         
         UserColumnPreference saved = preferenceRepository.save(preference);
-        return mapper.toPreferenceResponse(saved);
+        CachedColumnPreference cached = toCached(saved, true);
+        preferenceCache.putAfterCommit(userId, request.getModuleName(), cached);
+        return cached.getResponse();
+    }
+    
+    /**
+     * Load a preference for the cache: the saved one, else the module default
+     */
+    private CachedColumnPreference loadPreference(String userId, String moduleName) {
+        return preferenceRepository.findByUserIdAndModuleName(userId, moduleName)
+            .map(preference -> toCached(preference, true))
+            .orElseGet(() -> toCached(createDefaultPreferences(userId, moduleName), false));
+    }
+    
+    private CachedColumnPreference toCached(UserColumnPreference preference, boolean saved) {
+        return new CachedColumnPreference(
+            mapper.toPreferenceResponse(preference),
+            saved ? sparseColumns(preference.getColumnNames()) : null);
+    }
+    
+    /**
+     * Whitelisted columns of a saved preference, always including id (row identity)
+     * Returns null when nothing usable is saved
+     */
+    private List<String> sparseColumns(List<String> saved) {
+        if (saved == null || saved.isEmpty()) {
+            return null;
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        saved.stream().filter(validator::isAllowedColumn).forEach(columns::add);
+        return List.copyOf(columns);
     }
     
     /**
@@ -0,0 +1,18 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.dto.ColumnPreferenceResponse;
+import lombok.Value;
+import java.util.List;
+
+/**
+ * Immutable, already parsed column preference held by ColumnPreferenceCache
+ */
+@Value
+class CachedColumnPreference {
+
+    // Response as returned to the grid (immutable lists)
+    ColumnPreferenceResponse response;
+
+    // Whitelisted columns for the sparse search, null when the user has no saved preference
+    List<String> searchColumns;
+}
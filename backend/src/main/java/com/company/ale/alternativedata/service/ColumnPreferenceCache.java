@@ -0,0 +1,59 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.common.cache.BoundedCache;
+import com.company.ale.common.cache.CacheRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Cache of parsed column preferences per (userId, moduleName), defaults included,
+ * so grid renders and sparse searches skip the user_column_preference lookup.
+ *
+ * Saves are written through after commit. Other instances serve their copy until
+ * it expires, so the TTL bounds how stale a preference saved elsewhere can be.
+ *
+ * Configuration is read from application.properties:
+ * - ale.alternative-data.preferences.cache.max-size: Cached (user, module) pairs (default: 10000)
+ * - ale.alternative-data.preferences.cache.ttl: Entry lifetime (default: PT10M)
+ */
+@Component
+public class ColumnPreferenceCache {
+
+    private final BoundedCache<List<String>, CachedColumnPreference> cache;
+
+    public ColumnPreferenceCache(CacheRegistry registry,
+                                 @Value("${ale.alternative-data.preferences.cache.max-size:10000}") int maxSize,
+                                 @Value("${ale.alternative-data.preferences.cache.ttl:PT10M}") Duration ttl) {
+        this.cache = registry.create("column-preferences", maxSize, ttl);
+    }
+
+    /**
+     * Cached preference, loaded by the loader (userId, moduleName) on a miss
+     */
+    CachedColumnPreference get(String userId, String moduleName,
+                               BiFunction<String, String, CachedColumnPreference> loader) {
+        return cache.get(List.of(userId, moduleName), key -> loader.apply(userId, moduleName));
+    }
+
+    /**
+     * Replace the cached preference once the surrounding transaction commits
+     */
+    void putAfterCommit(String userId, String moduleName, CachedColumnPreference preference) {
+        List<String> key = List.of(userId, moduleName);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(key, preference);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, preference);
+            }
+        });
+    }
+}
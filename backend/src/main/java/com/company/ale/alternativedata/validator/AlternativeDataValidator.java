@@ -33,6 +33,13 @@ public class AlternativeDataValidator {
         "modifiedBy"
     ));
     
+    /**
+     * Check a column name against the whitelist (AD-02)
+     */
+    public boolean isAllowedColumn(String column) {
+        return ALLOWED_COLUMNS.contains(column);
+    }
+    
     /**
      * Validate column preferences (AD-01, AD-02)
      */
@@ -1,18 +1,26 @@
 package com.company.ale.capitalcall.controller;
 
 import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowAction;
 import com.company.ale.capitalcall.dto.*;
+import com.company.ale.capitalcall.service.CapitalCallImportService;
+import com.company.ale.capitalcall.service.CapitalCallLockService;
 import com.company.ale.capitalcall.service.CapitalCallService;
+import com.company.ale.common.exception.ValidationException;
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
+import com.company.ale.common.web.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,6 +40,8 @@ import jakarta.validation.Valid;
 public class CapitalCallController {
     
     private final CapitalCallService service;
+    private final CapitalCallImportService importService;
+    private final CapitalCallLockService lockService;
     
     /**
      * Search capital calls with filters
@@ -48,7 +58,8 @@ public class CapitalCallController {
     
 // Create count api with queue parameters
     @Operation(summary = "Get capital call count",
-               description = "Get count of capital calls matching filters. Optional queue parameter to get count of items in processing queue.")
+               description = "Get count of capital calls matching filters. Optional queue parameter to get count of items in processing queue "
+                   + "(all queues when omitted); includeStatusBreakdown adds counts per workflow status.")
     @GetMapping("/count")
     public ResponseEntity<CapitalCallCountResponse> getCounts(
             @RequestParam(required = false) List<String> queues,
@@ -56,6 +67,7 @@ public class CapitalCallController {
             @RequestParam(required = false) LocalDate effectiveDateTo,
             @RequestParam(required = false) String aleBatchId,
             @RequestParam(required = false) String toeReference,
+            @RequestParam(defaultValue = "false") boolean includeStatusBreakdown,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         // Convert String queue names to CapitalCallQueue enums
@@ -77,6 +89,7 @@ public class CapitalCallController {
             .effectiveDateTo(effectiveDateTo)
             .aleBatchId(aleBatchId)
             .toeReference(toeReference)
+            .includeStatusBreakdown(includeStatusBreakdown)
             .build();
 
         return ResponseEntity.ok(service.getCountsByQueue(request));
@@ -88,11 +101,23 @@ public class CapitalCallController {
      * GET /api/capital-call/{id}
      */
     @Operation(summary = "Get capital call details",
-               description = "Retrieve complete capital call details including breakdowns")
+               description = "Retrieve complete capital call details including breakdowns. The ETag is the capital call version; "
+                   + "a matching If-None-Match returns 304 without loading the capital call.")
     @GetMapping("/{id}")
-    public ResponseEntity<CapitalCallDetailResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<CapitalCallDetailResponse> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(service.getVersion(id));
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+            }
+        }
         CapitalCallDetailResponse response = service.getById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(ETags.of(response.getVersion()))
+            .cacheControl(CacheControl.noCache())
+            .body(response);
     }
     
     /**
@@ -109,6 +134,21 @@ public class CapitalCallController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Bulk import capital calls
+     * POST /api/capital-call/bulk-import
+     */
+    @Operation(summary = "Bulk import capital calls",
+               description = "Create many capital calls in DRAFT status. Rows are validated and inserted independently; "
+                   + "the response reports the id or the error code of every row.")
+    @PostMapping("/bulk-import")
+    public ResponseEntity<BulkImportCapitalCallResponse> bulkImport(
+            @Valid @RequestBody BulkImportCapitalCallRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        BulkImportCapitalCallResponse response = importService.importCapitalCalls(request, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Update an existing capital call
      * PUT /api/capital-call/{id}
@@ -129,13 +169,16 @@ public class CapitalCallController {
      * POST /api/capital-call/{id}/submit
      */
     @Operation(summary = "Submit capital call",
-               description = "Submit capital call for approval. Transitions status from DRAFT to SUBMITTED. Releases lock.")
+               description = "Submit capital call for approval. Transitions status from DRAFT to SUBMITTED. Releases lock. "
+                   + "403 if the current status does not allow the action. "
+                   + "Optional version rejects the call with 409 STALE_VERSION if the item changed; detail=false returns 204 without the detail view.")
     @PostMapping("/{id}/submit")
     public ResponseEntity<CapitalCallDetailResponse> submit(
             @PathVariable Long id,
+            @RequestParam(required = false) Integer version,
+            @RequestParam(defaultValue = "true") boolean detail,
             @AuthenticationPrincipal UserDetails userDetails) {
-        CapitalCallDetailResponse response = service.submit(id, userDetails.getUsername());
-        return ResponseEntity.ok(response);
+        return transition(WorkflowAction.SUBMIT, id, version, detail, userDetails);
     }
     
     /**
@@ -143,13 +186,16 @@ public class CapitalCallController {
      * POST /api/capital-call/{id}/approve
      */
     @Operation(summary = "Approve capital call",
-               description = "Approve a submitted capital call. Transitions status from SUBMITTED to APPROVED.")
+               description = "Approve a submitted capital call. Transitions status from SUBMITTED to APPROVED. "
+                   + "403 if the current status does not allow the action. "
+                   + "Optional version rejects the call with 409 STALE_VERSION if the item changed; detail=false returns 204 without the detail view.")
     @PostMapping("/{id}/approve")
     public ResponseEntity<CapitalCallDetailResponse> approve(
             @PathVariable Long id,
+            @RequestParam(required = false) Integer version,
+            @RequestParam(defaultValue = "true") boolean detail,
             @AuthenticationPrincipal UserDetails userDetails) {
-        CapitalCallDetailResponse response = service.approve(id, userDetails.getUsername());
-        return ResponseEntity.ok(response);
+        return transition(WorkflowAction.APPROVE, id, version, detail, userDetails);
     }
     
     /**
@@ -157,13 +203,16 @@ public class CapitalCallController {
      * POST /api/capital-call/{id}/reject
      */
     @Operation(summary = "Reject capital call",
-               description = "Reject a submitted capital call. Transitions status from SUBMITTED back to DRAFT.")
+               description = "Reject a submitted capital call. Transitions status from SUBMITTED to REJECTED and re-acquires the lock. "
+                   + "403 if the current status does not allow the action. "
+                   + "Optional version rejects the call with 409 STALE_VERSION if the item changed; detail=false returns 204 without the detail view.")
     @PostMapping("/{id}/reject")
     public ResponseEntity<CapitalCallDetailResponse> reject(
             @PathVariable Long id,
+            @RequestParam(required = false) Integer version,
+            @RequestParam(defaultValue = "true") boolean detail,
             @AuthenticationPrincipal UserDetails userDetails) {
-        CapitalCallDetailResponse response = service.reject(id, userDetails.getUsername());
-        return ResponseEntity.ok(response);
+        return transition(WorkflowAction.REJECT, id, version, detail, userDetails);
     }
     
     /**
@@ -174,9 +223,82 @@ public class CapitalCallController {
                description = "Force unlock a capital call. Requires RULE_UNLOCK_WORK_ITEM permission.")
     @PostMapping("/{id}/unlock")
     public ResponseEntity<Void> unlock(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer version,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        service.transition(WorkflowAction.UNLOCK, id, version, false, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Lock capital call for editing
+     * POST /api/capital-call/{id}/lock
+     */
+    @Operation(summary = "Lock capital call",
+               description = "Take the edit lock as a lease. Succeeds when the lock is free, expired or already yours; "
+                   + "409 LOCKED when another user holds a live lease. Keep it with heartbeats before expiresAt.")
+    @PostMapping("/{id}/lock")
+    public ResponseEntity<LockLeaseResponse> lock(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(lockService.acquire(id, userDetails.getUsername()));
+    }
+    
+    /**
+     * Extend the lock lease
+     * POST /api/capital-call/{id}/lock/heartbeat
+     */
+    @Operation(summary = "Renew capital call lock",
+               description = "Extend your lock lease. A lock that expired and was not taken by someone else is re-acquired; "
+                   + "409 LOCKED when another user holds it.")
+    @PostMapping("/{id}/lock/heartbeat")
+    public ResponseEntity<LockLeaseResponse> heartbeat(
             @PathVariable Long id,
             @AuthenticationPrincipal UserDetails userDetails) {
-        service.unlock(id, userDetails.getUsername());
+        return ResponseEntity.ok(lockService.heartbeat(id, userDetails.getUsername()));
+    }
+    
+    /**
+     * Release your lock
+     * DELETE /api/capital-call/{id}/lock
+     */
+    @Operation(summary = "Release capital call lock",
+               description = "Release your lock (no-op when the item is not locked). 409 LOCK_NOT_HELD when another user holds it; "
+                   + "use unlock to force.")
+    @DeleteMapping("/{id}/lock")
+    public ResponseEntity<Void> releaseLock(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        lockService.release(id, userDetails.getUsername());
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * Apply a workflow action to many capital calls
+     * POST /api/capital-call/bulk/{submit|approve|reject|unlock}
+     */
+    @Operation(summary = "Bulk workflow action",
+               description = "Submit, approve, reject or unlock many capital calls in one request. Each item may carry the version "
+                   + "the caller last saw; items whose status or version no longer allow the action are reported as rejected.")
+    @PostMapping("/bulk/{action}")
+    public ResponseEntity<BulkTransitionResponse> bulkTransition(
+            @PathVariable String action,
+            @Valid @RequestBody BulkTransitionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        WorkflowAction workflowAction;
+        try {
+            workflowAction = WorkflowAction.valueOf(action.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid workflow action: " + action
+                + " (expected submit, approve, reject or unlock)", "VAL_019");
+        }
+        BulkTransitionResponse response = service.bulkTransition(workflowAction, request, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
+    
+    private ResponseEntity<CapitalCallDetailResponse> transition(WorkflowAction action, Long id, Integer version,
+                                                                 boolean detail, UserDetails userDetails) {
+        CapitalCallDetailResponse response = service.transition(action, id, version, detail, userDetails.getUsername());
+        return detail ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
+    }
 }
@@ -3,10 +3,15 @@ package com.company.ale.capitalcall.domain;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.company.ale.capitalcall.service.CapitalCallCountListener;
+import com.company.ale.common.filter.NgramIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Pattern;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,8 +21,12 @@ import java.util.List;
 /**
  * Capital Call entity
  * Represents a capital call request with breakdowns
+ * Detail lookups load the breakdowns with the WITH_BREAKDOWNS graph; lists
+ * initialise them in IN batches of 50 capital calls
  */
 @Entity
+@NamedEntityGraph(name = CapitalCall.WITH_BREAKDOWNS, attributeNodes = @NamedAttributeNode("breakdowns"))
+@EntityListeners({NgramIndexListener.class, CapitalCallCountListener.class})
 @Table(name = "capital_call")
 @Data
 @Builder
@@ -25,6 +34,8 @@ import java.util.List;
 @AllArgsConstructor
 public class CapitalCall {
     
+    public static final String WITH_BREAKDOWNS = "CapitalCall.withBreakdowns";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -54,12 +65,18 @@ public class CapitalCall {
     @Column(name = "queue", nullable = false)
     private CapitalCallQueue queue;
 
-    @Column(name = "locked_by")
+    // Lock columns are set on insert, then only by the lease / workflow UPDATE statements
+    // (see CapitalCallLockService): saving a loaded entity must not write back a stale lease
+    @Column(name = "locked_by", updatable = false)
     private String lockedBy;
     
-    @Column(name = "locked_at")
+    @Column(name = "locked_at", updatable = false)
     private LocalDateTime lockedAt;
     
+    // End of the lock lease; extended by heartbeats, expired leases are released (see CapitalCallLockService)
+    @Column(name = "lock_expires_at", updatable = false)
+    private LocalDateTime lockExpiresAt;
+    
     @Column(name = "client_name")
     private String clientName;
     
@@ -72,7 +89,11 @@ public class CapitalCall {
     @Column(name = "toe_reference")
     private String toeReference;
     
+    // Excluded from toString/equals/hashCode so they never initialise the lazy collection
     @OneToMany(mappedBy = "capitalCall", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<CapitalCallBreakdown> breakdowns = new ArrayList<>();
     
     // Audit fields
@@ -91,6 +112,17 @@ public class CapitalCall {
     @Version
     private Integer version;
     
+    // Queue/status this row is currently counted under (see CapitalCallCountListener)
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private CapitalCallQueue countedQueue;
+    
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private WorkflowStatus countedStatus;
+    
     /**
      * Helper method to add a breakdown
      */
@@ -3,7 +3,9 @@ package com.company.ale.capitalcall.domain;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -26,8 +28,11 @@ public class CapitalCallBreakdown {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // Excluded from toString/equals/hashCode (lazy proxy, and it points back at this row)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "capital_call_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private CapitalCall capitalCall;
     
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,53 @@
+package com.company.ale.capitalcall.domain;
+
+/**
+ * Workflow actions on a capital call and their effect
+ * Status changes must also be allowed by WorkflowValidator (CC-07)
+ */
+public enum WorkflowAction {
+    SUBMIT(WorkflowStatus.DRAFT, WorkflowStatus.SUBMITTED, LockChange.RELEASE),
+    APPROVE(WorkflowStatus.SUBMITTED, WorkflowStatus.APPROVED, LockChange.KEEP),
+    REJECT(WorkflowStatus.SUBMITTED, WorkflowStatus.REJECTED, LockChange.ACQUIRE),
+    UNLOCK(null, null, LockChange.RELEASE);
+    
+    /**
+     * What the action does to the work item lock
+     */
+    public enum LockChange {
+        KEEP,
+        ACQUIRE,
+        RELEASE
+    }
+    
+    private final WorkflowStatus fromStatus;
+    private final WorkflowStatus toStatus;
+    private final LockChange lockChange;
+    
+    WorkflowAction(WorkflowStatus fromStatus, WorkflowStatus toStatus, LockChange lockChange) {
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.lockChange = lockChange;
+    }
+    
+    /**
+     * Status the action starts from, null when it applies in any status
+     */
+    public WorkflowStatus getFromStatus() {
+        return fromStatus;
+    }
+    
+    /**
+     * Status the action moves to, null when the status does not change
+     */
+    public WorkflowStatus getToStatus() {
+        return toStatus;
+    }
+    
+    public LockChange getLockChange() {
+        return lockChange;
+    }
+    
+    public boolean changesStatus() {
+        return toStatus != null;
+    }
+}
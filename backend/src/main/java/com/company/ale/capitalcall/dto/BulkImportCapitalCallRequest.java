@@ -0,0 +1,19 @@
+package com.company.ale.capitalcall.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * DTO for bulk import of capital calls
+ * Rows are validated one by one during the import (not with @Valid), so an
+ * invalid row is reported in the result instead of failing the whole request
+ */
+@Value
+@Builder
+public class BulkImportCapitalCallRequest {
+    
+    @NotEmpty(message = "At least one capital call is required")
+    List<CreateCapitalCallRequest> capitalCalls;
+}
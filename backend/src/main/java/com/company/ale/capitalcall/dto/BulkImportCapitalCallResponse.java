@@ -0,0 +1,22 @@
+package com.company.ale.capitalcall.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+/**
+ * DTO for the result of a capital call bulk import
+ */
+@Value
+@Builder
+public class BulkImportCapitalCallResponse {
+    
+    int total;
+    
+    int created;
+    
+    int failed;
+    
+    // One entry per request row, in request order
+    List<ImportRowResult> results;
+}
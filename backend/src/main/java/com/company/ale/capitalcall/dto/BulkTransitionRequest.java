@@ -0,0 +1,18 @@
+package com.company.ale.capitalcall.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * DTO for a bulk workflow action (submit, approve, reject, unlock)
+ */
+@Value
+@Builder
+public class BulkTransitionRequest {
+    
+    @NotEmpty(message = "At least one capital call is required")
+    List<@Valid TransitionItem> items;
+}
@@ -0,0 +1,20 @@
+package com.company.ale.capitalcall.dto;
+
+import com.company.ale.capitalcall.domain.WorkflowAction;
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk workflow action
+ */
+@Value
+@Builder
+public class BulkTransitionResponse {
+    
+    WorkflowAction action;
+    
+    List<Long> transitioned;
+    
+    List<TransitionRejection> rejected;
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import jakarta.validation.constraints.NotEmpty;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -19,11 +18,14 @@ import java.util.List;
 @AllArgsConstructor
 public class CapitalCallCountRequest {
     
-    @NotEmpty(message = "At least one queue is required")
+    // Empty or null: every CapitalCallQueue
     private List<CapitalCallQueue> queues;
 
     private LocalDate effectiveDateFrom;
     private LocalDate effectiveDateTo;
     private String aleBatchId;
     private String toeReference;
+
+    // Also return counts per WorkflowStatus within each queue
+    private boolean includeStatusBreakdown;
 }   
\ No newline at end of file
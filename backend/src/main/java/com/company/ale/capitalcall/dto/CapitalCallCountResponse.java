@@ -16,16 +16,20 @@
     CapitalCallQueue enum should be placed in a separate package to maintain a clean architecture and separation of concerns. A suitable package name could be com.company.ale.capitalcall.domain or com.company.ale.capitalcall.enums, depending on the existing structure of the project. This way, the enum can be easily reused across different parts of the application without creating unnecessary dependencies on the DTO package.
     */
 package com.company.ale.capitalcall.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Value;
 import java.util.Map;
 /**
- * DTO for capital call counts by workflow status
+ * DTO for capital call counts by queue
+ * statusCounts (queue -> workflow status -> count) is only present when requested
  */
 @Value
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class CapitalCallCountResponse {
     Map<String, Long> counts;
+    Map<String, Map<String, Long>> statusCounts;
 }
 
 
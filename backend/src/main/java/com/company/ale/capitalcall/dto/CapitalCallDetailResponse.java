@@ -22,6 +22,7 @@ public class CapitalCallDetailResponse {
     WorkflowStatus workflowStatus;
     String lockedBy;
     LocalDateTime lockedAt;
+    LocalDateTime lockExpiresAt;
     String clientName;
     String assetDescription;
     String toeReference;
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Value;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
 /**
@@ -14,8 +15,10 @@ import java.math.BigDecimal;
 @Builder
 public class CreateBreakdownRequest {
     
+    @NotNull(message = "Category is required")
     BreakdownCategory category;
     
+    @NotNull(message = "Percentage is required")
     @DecimalMin("0.00")
     @DecimalMax("100.00")
     BigDecimal percentage;
@@ -0,0 +1,29 @@
+package com.company.ale.capitalcall.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for the outcome of one bulk import row
+ * Created rows carry the new id; failed rows the error code (VAL_xxx, VALIDATION_ERROR,
+ * DUPLICATE_RESOURCE, CONSTRAINT_VIOLATION, DATABASE_ERROR or INTERNAL_ERROR) and message
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRowResult {
+    
+    // Zero-based position in the request
+    int row;
+    
+    String aleBatchId;
+    
+    boolean created;
+    
+    Long id;
+    
+    String errorCode;
+    
+    String message;
+}
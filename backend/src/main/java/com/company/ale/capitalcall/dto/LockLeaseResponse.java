@@ -0,0 +1,17 @@
+package com.company.ale.capitalcall.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a capital call lock lease
+ * The holder must send a heartbeat before expiresAt to keep the lock
+ */
+@Value
+@Builder
+public class LockLeaseResponse {
+    Long id;
+    String lockedBy;
+    LocalDateTime expiresAt;
+}
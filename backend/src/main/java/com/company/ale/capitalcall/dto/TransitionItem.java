@@ -0,0 +1,19 @@
+package com.company.ale.capitalcall.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for one capital call of a bulk workflow action
+ */
+@Value
+@Builder
+public class TransitionItem {
+    
+    @NotNull(message = "ID is required")
+    Long id;
+    
+    // Version the caller last saw; when omitted the version read at the start of the action is used
+    Integer version;
+}
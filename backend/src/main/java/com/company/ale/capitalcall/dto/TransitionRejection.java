@@ -0,0 +1,27 @@
+package com.company.ale.capitalcall.dto;
+
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for a capital call a bulk workflow action did not apply to
+ * errorCode: NOT_FOUND, BUS_001 (status does not allow the action),
+ * STALE_VERSION (changed since the caller read it) or a VAL_xxx submission rule
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransitionRejection {
+    
+    Long id;
+    
+    String errorCode;
+    
+    String message;
+    
+    WorkflowStatus currentStatus;
+    
+    Integer currentVersion;
+}
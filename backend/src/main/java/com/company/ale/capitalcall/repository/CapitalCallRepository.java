@@ -3,13 +3,18 @@ package com.company.ale.capitalcall.repository;
 import com.company.ale.capitalcall.domain.CapitalCall;
 import com.company.ale.capitalcall.domain.CapitalCallQueue;
 import com.company.ale.capitalcall.domain.WorkflowStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,24 +24,162 @@ import java.util.Optional;
 @Repository
 public interface CapitalCallRepository extends JpaRepository<CapitalCall, Long>, JpaSpecificationExecutor<CapitalCall> {
     
+    /**
+     * Lock lease over: past its expiry, or (locks taken before leases existed) held
+     * for longer than one lease since lockedAt, or with no timestamp at all
+     */
+    String LEASE_EXPIRED = "(c.lockExpiresAt < :now OR (c.lockExpiresAt IS NULL AND (c.lockedAt IS NULL OR c.lockedAt < :staleBefore)))";
+    
     Optional<CapitalCall> findByAleBatchId(String aleBatchId);
     
+    /**
+     * Capital call with its breakdowns in one query (detail view, update)
+     */
+    @EntityGraph(CapitalCall.WITH_BREAKDOWNS)
+    Optional<CapitalCall> findWithBreakdownsById(Long id);
+    
+    /**
+     * Version only (answers conditional GETs without loading the aggregate)
+     */
+    @Query("SELECT c.version FROM CapitalCall c WHERE c.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+    
+    /**
+     * Lock holder and lease expiry only (ownership check without loading the aggregate)
+     */
+    @Query("SELECT c.lockedBy AS lockedBy, c.lockExpiresAt AS lockExpiresAt FROM CapitalCall c WHERE c.id = :id")
+    Optional<LeaseState> findLeaseById(@Param("id") Long id);
+    
+    /**
+     * Take the lock lease if it is free, expired or already held by the user
+     * The version is bumped so the ETag reflects the new holder.
+     * @return 1 when the lease was taken
+     */
+    @Modifying
+    @Query("UPDATE CapitalCall c SET c.lockedAt = CASE WHEN c.lockedBy = :username THEN c.lockedAt ELSE :now END, " +
+           "c.lockedBy = :username, c.lockExpiresAt = :expiresAt, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND (c.lockedBy IS NULL OR c.lockedBy = :username OR " + LEASE_EXPIRED + ")")
+    int acquireLease(@Param("id") Long id,
+                     @Param("username") String username,
+                     @Param("now") LocalDateTime now,
+                     @Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * Extend the lease of a lock the user holds (heartbeat); the version is left alone
+     * @return 1 when the lease was extended
+     */
+    @Modifying
+    @Query("UPDATE CapitalCall c SET c.lockExpiresAt = :expiresAt WHERE c.id = :id AND c.lockedBy = :username")
+    int renewLease(@Param("id") Long id,
+                   @Param("username") String username,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * Release a lock the user holds
+     * @return 1 when the lock was released
+     */
+    @Modifying
+    @Query("UPDATE CapitalCall c SET c.lockedBy = NULL, c.lockedAt = NULL, c.lockExpiresAt = NULL, " +
+           "c.version = c.version + 1 WHERE c.id = :id AND c.lockedBy = :username")
+    int releaseLease(@Param("id") Long id, @Param("username") String username);
+    
+    /**
+     * Locked capital calls whose lease is over, oldest expiry first (sweeper batches)
+     */
+    @Query("SELECT c.id FROM CapitalCall c WHERE c.lockedBy IS NOT NULL AND " + LEASE_EXPIRED + " ORDER BY c.lockExpiresAt")
+    List<Long> findExpiredLeaseIds(@Param("now") LocalDateTime now,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Pageable pageable);
+    
+    /**
+     * Release the given locks if their lease is still over (not renewed meanwhile)
+     * @return number of locks released
+     */
+    @Modifying
+    @Query("UPDATE CapitalCall c SET c.lockedBy = NULL, c.lockedAt = NULL, c.lockExpiresAt = NULL, " +
+           "c.version = c.version + 1 WHERE c.id IN :ids AND c.lockedBy IS NOT NULL AND " + LEASE_EXPIRED)
+    int releaseExpiredLeases(@Param("ids") Collection<Long> ids,
+                             @Param("now") LocalDateTime now,
+                             @Param("staleBefore") LocalDateTime staleBefore);
+    
     List<CapitalCall> findByWorkflowStatusAndCreatedAtBefore(WorkflowStatus status, LocalDateTime date);
     
     List<CapitalCall> findByLockedBy(String username);
     
     Long countByLockedByAndLockedAtAfter(String username, LocalDateTime since);
+    
+    /**
+     * Which of the given batch IDs already exist (set-based duplicate check for bulk import)
+     */
+    @Query("SELECT c.aleBatchId FROM CapitalCall c WHERE c.aleBatchId IN :aleBatchIds")
+    List<String> findExistingAleBatchIds(@Param("aleBatchIds") Collection<String> aleBatchIds);
+
+    /**
+     * Workflow state of the given capital calls in one query, with the breakdown
+     * percentage total needed by the submission rules (bulk transitions)
+     */
+    @Query("SELECT c.id AS id, c.workflowStatus AS workflowStatus, c.version AS version, c.queue AS queue, " +
+           "c.fromDate AS fromDate, c.toDate AS toDate, COALESCE(SUM(b.percentage), 0) AS percentageTotal " +
+           "FROM CapitalCall c LEFT JOIN c.breakdowns b WHERE c.id IN :ids " +
+           "GROUP BY c.id, c.workflowStatus, c.version, c.queue, c.fromDate, c.toDate")
+    List<TransitionState> findTransitionStates(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Which of the given capital calls are still at the given version, locking those
+     * rows until the transaction ends so a following UPDATE affects exactly them
+     * (bulk transitions); locked in id order so concurrent bulk actions cannot deadlock
+     */
+    @Query(value = "SELECT id FROM capital_call WHERE id IN (:ids) AND version = :version ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Number> lockAtVersion(@Param("ids") Collection<Long> ids, @Param("version") Integer version);
 
-    @Query("SELECT COUNT(c) FROM CapitalCall c WHERE c.queue = :queue " +
+    /**
+     * Counts per queue and workflow status in a single grouped query
+     * (only non-empty groups are returned)
+     */
+    @Query("SELECT c.queue AS queue, c.workflowStatus AS workflowStatus, COUNT(c) AS total " +
+           "FROM CapitalCall c WHERE c.queue IN :queues " +
            "AND (:effectiveDateFrom IS NULL OR c.fromDate >= :effectiveDateFrom) " +
            "AND (:effectiveDateTo IS NULL OR c.toDate <= :effectiveDateTo) " +
            "AND (:aleBatchId IS NULL OR c.aleBatchId = :aleBatchId) " +
-           "AND (:toeReference IS NULL OR c.toeReference = :toeReference)")
-    long countByQueueAndFilters(
-        @Param("queue") String queue,
+           "AND (:toeReference IS NULL OR c.toeReference = :toeReference) " +
+           "GROUP BY c.queue, c.workflowStatus")
+    List<QueueStatusCount> countByQueueAndStatus(
+        @Param("queues") Collection<CapitalCallQueue> queues,
         @Param("effectiveDateFrom") LocalDate effectiveDateFrom,
         @Param("effectiveDateTo") LocalDate effectiveDateTo,
         @Param("aleBatchId") String aleBatchId,
         @Param("toeReference") String toeReference
     );
+
+    /**
+     * Row of countByQueueAndStatus
+     */
+    interface QueueStatusCount {
+        CapitalCallQueue getQueue();
+        WorkflowStatus getWorkflowStatus();
+        long getTotal();
+    }
+
+    /**
+     * Row of findLeaseById
+     */
+    interface LeaseState {
+        String getLockedBy();
+        LocalDateTime getLockExpiresAt();
+    }
+
+    /**
+     * Row of findTransitionStates
+     */
+    interface TransitionState {
+        Long getId();
+        WorkflowStatus getWorkflowStatus();
+        Integer getVersion();
+        CapitalCallQueue getQueue();
+        LocalDate getFromDate();
+        LocalDate getToDate();
+        BigDecimal getPercentageTotal();
+    }
 }
@@ -0,0 +1,70 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entity listener feeding CapitalCallCounters.
+ * The queue/status a row is counted under is remembered on the entity (countedQueue,
+ * countedStatus) so an update can move it between cells; counters change only after commit.
+ */
+@Component
+public class CapitalCallCountListener {
+
+    // Resolved lazily: the counters need the repository, which needs the EntityManagerFactory
+    private final ObjectProvider<CapitalCallCounters> counters;
+
+    public CapitalCallCountListener(ObjectProvider<CapitalCallCounters> counters) {
+        this.counters = counters;
+    }
+
+    @PostLoad
+    public void afterLoad(CapitalCall entity) {
+        remember(entity);
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(CapitalCall entity) {
+        CapitalCallQueue fromQueue = entity.getCountedQueue();
+        WorkflowStatus fromStatus = entity.getCountedStatus();
+        CapitalCallQueue toQueue = entity.getQueue();
+        WorkflowStatus toStatus = entity.getWorkflowStatus();
+        remember(entity);
+        afterCommit(() -> counters.getObject().move(fromQueue, fromStatus, toQueue, toStatus));
+    }
+
+    @PostRemove
+    public void afterRemove(CapitalCall entity) {
+        CapitalCallQueue fromQueue = entity.getCountedQueue();
+        WorkflowStatus fromStatus = entity.getCountedStatus();
+        afterCommit(() -> counters.getObject().move(fromQueue, fromStatus, null, null));
+    }
+
+    private void remember(CapitalCall entity) {
+        entity.setCountedQueue(entity.getQueue());
+        entity.setCountedStatus(entity.getWorkflowStatus());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
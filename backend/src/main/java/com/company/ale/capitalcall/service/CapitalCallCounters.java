@@ -0,0 +1,116 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory capital call counts per queue and workflow status, so the unfiltered
+ * /api/capital-call/count poll never reaches the database.
+ *
+ * Seeded from one grouped query at startup, adjusted after each committed
+ * persist/update/remove by CapitalCallCountListener, and periodically reconciled
+ * against the database to correct drift (e.g. bulk updates bypassing listeners).
+ */
+@Component
+@Slf4j
+public class CapitalCallCounters {
+
+    private static final CapitalCallQueue[] QUEUES = CapitalCallQueue.values();
+    private static final WorkflowStatus[] STATUSES = WorkflowStatus.values();
+
+    private final CapitalCallRepository repository;
+
+    // [queue.ordinal()][status.ordinal()]
+    private final LongAdder[][] counts = new LongAdder[QUEUES.length][STATUSES.length];
+
+    private volatile boolean ready;
+
+    public CapitalCallCounters(CapitalCallRepository repository) {
+        this.repository = repository;
+        for (LongAdder[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * True once seeded; until then counts must come from the database
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long count(CapitalCallQueue queue) {
+        long total = 0;
+        for (LongAdder adder : counts[queue.ordinal()]) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public long count(CapitalCallQueue queue, WorkflowStatus status) {
+        return counts[queue.ordinal()][status.ordinal()].sum();
+    }
+
+    /**
+     * Move one row between cells; either side may be null (insert / delete)
+     */
+    public void move(CapitalCallQueue fromQueue, WorkflowStatus fromStatus,
+                     CapitalCallQueue toQueue, WorkflowStatus toStatus) {
+        if (fromQueue == toQueue && fromStatus == toStatus) {
+            return;
+        }
+        if (fromQueue != null && fromStatus != null) {
+            counts[fromQueue.ordinal()][fromStatus.ordinal()].decrement();
+        }
+        if (toQueue != null && toStatus != null) {
+            counts[toQueue.ordinal()][toStatus.ordinal()].increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        ready = true;
+        log.info("Capital call queue counters seeded");
+    }
+
+    /**
+     * Bring every cell back in line with the database
+     * (a commit racing this pass is corrected by the next one)
+     */
+    @Scheduled(fixedDelayString = "${ale.capital-call.counters.reconcile-interval-ms:60000}",
+               initialDelayString = "${ale.capital-call.counters.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        long[][] actual = new long[QUEUES.length][STATUSES.length];
+        List<CapitalCallRepository.QueueStatusCount> rows =
+            repository.countByQueueAndStatus(Arrays.asList(QUEUES), null, null, null, null);
+        for (CapitalCallRepository.QueueStatusCount row : rows) {
+            actual[row.getQueue().ordinal()][row.getWorkflowStatus().ordinal()] = row.getTotal();
+        }
+
+        long drift = 0;
+        for (int q = 0; q < QUEUES.length; q++) {
+            for (int s = 0; s < STATUSES.length; s++) {
+                long delta = actual[q][s] - counts[q][s].sum();
+                if (delta != 0) {
+                    counts[q][s].add(delta);
+                    drift += Math.abs(delta);
+                }
+            }
+        }
+        if (drift != 0 && ready) {
+            log.warn("Capital call queue counters corrected by {}", drift);
+        }
+    }
+}
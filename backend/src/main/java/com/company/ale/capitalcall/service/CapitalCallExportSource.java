@@ -0,0 +1,53 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.common.export.ExportService;
+import com.company.ale.common.export.ExportSource;
+import com.company.ale.common.export.ExportTask;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchRequest;
+import com.company.ale.common.pagination.SortUtil;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Export source for capital call search results
+ */
+@Component
+@RequiredArgsConstructor
+public class CapitalCallExportSource implements ExportSource {
+    
+    private final AuthorizationService authorizationService;
+    private final CapitalCallMapper mapper;
+    private final ExportService exportService;
+    private final NgramIndexRegistry ngramIndexes;
+    
+    @Override
+    public ExportModule getModule() {
+        return ExportModule.CAPITAL_CALL;
+    }
+    
+    @Override
+    public String getFileName() {
+        return "capital-call";
+    }
+    
+    /**
+     * Check RULE_EXPORT and bind the filters; pagination is ignored
+     */
+    @Override
+    public ExportTask prepare(SearchRequest request) {
+        authorizationService.checkPermission(RuleType.RULE_EXPORT);
+        
+        CapitalCallSpecification spec = new CapitalCallSpecification(
+            request.getFilters(), ngramIndexes.forEntity(CapitalCall.class));
+        Sort sort = SortUtil.toSort(request.getSort());
+        
+        return (writer, progress) -> exportService.export(CapitalCall.class, spec, sort,
+            mapper.searchProjection(), mapper.exportColumns(), writer, progress);
+    }
+}
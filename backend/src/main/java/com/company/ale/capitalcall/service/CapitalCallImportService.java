@@ -0,0 +1,274 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.dto.BulkImportCapitalCallRequest;
+import com.company.ale.capitalcall.dto.BulkImportCapitalCallResponse;
+import com.company.ale.capitalcall.dto.CreateCapitalCallRequest;
+import com.company.ale.capitalcall.dto.ImportRowResult;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import com.company.ale.capitalcall.validator.CapitalCallValidator;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of capital calls
+ *
+ * The rows are split into chunks processed in parallel on a dedicated pool: each
+ * chunk validates its rows (bean constraints, then CapitalCallValidator), builds the
+ * entities with their breakdown amounts and inserts the valid ones in its own
+ * transaction. A chunk rejected by the database is retried row by row, so one bad
+ * row never rolls back the others. Batch IDs already stored or repeated within
+ * the request are found up front with one set-based query.
+ *
+ * Any failure is confined to its row: a row that cannot be validated or built fails
+ * alone, and database errors are reported with a stable code (DUPLICATE_RESOURCE,
+ * CONSTRAINT_VIOLATION, DATABASE_ERROR) and a fixed message; driver messages are
+ * only logged.
+ *
+ * Configuration is read from application.properties:
+ * - ale.capital-call.import.parallelism: Concurrent chunks, 0 = available processors (default: 0);
+ *   each running chunk holds a database connection, so keep it below the connection pool size
+ * - ale.capital-call.import.chunk-size: Rows per chunk transaction (default: 500)
+ * - ale.capital-call.import.max-rows: Largest import accepted (default: 50000)
+ */
+@Service
+@Slf4j
+public class CapitalCallImportService {
+
+    private static final int EXISTING_ID_CHUNK = 1000;
+
+    private final CapitalCallRepository repository;
+    private final CapitalCallValidator validator;
+    private final Validator beanValidator;
+    private final CapitalCallMapper mapper;
+    private final AuthorizationService authorizationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public CapitalCallImportService(CapitalCallRepository repository,
+                                    CapitalCallValidator validator,
+                                    Validator beanValidator,
+                                    CapitalCallMapper mapper,
+                                    AuthorizationService authorizationService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${ale.capital-call.import.parallelism:0}") int parallelism,
+                                    @Value("${ale.capital-call.import.chunk-size:500}") int chunkSize,
+                                    @Value("${ale.capital-call.import.max-rows:50000}") int maxRows) {
+        this.repository = repository;
+        this.validator = validator;
+        this.beanValidator = beanValidator;
+        this.mapper = mapper;
+        this.authorizationService = authorizationService;
+        this.transactionTemplate = transactionTemplate;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Import capital calls as DRAFT, locked by the importing user
+     * @return one result per row, in request order
+     */
+    public BulkImportCapitalCallResponse importCapitalCalls(BulkImportCapitalCallRequest request, String username) {
+        authorizationService.checkPermission(RuleType.RULE_EDIT);
+
+        List<CreateCapitalCallRequest> rows = request.getCapitalCalls();
+        if (rows.size() > maxRows) {
+            throw new ValidationException("Import has " + rows.size() + " rows, the maximum is " + maxRows, "VAL_015");
+        }
+        ImportRowResult[] results = new ImportRowResult[rows.size()];
+
+        // Duplicate batch IDs: already stored, or repeated within the request
+        Set<String> existing = findExistingAleBatchIds(rows);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            String aleBatchId = rows.get(i).getAleBatchId();
+            if (aleBatchId == null) {
+                continue;
+            }
+            if (existing.contains(aleBatchId)) {
+                results[i] = failed(i, aleBatchId, "DUPLICATE_RESOURCE", "Capital call with batch ID " + aleBatchId + " already exists");
+            } else if (!seen.add(aleBatchId)) {
+                results[i] = failed(i, aleBatchId, "VAL_016", "Batch ID " + aleBatchId + " appears more than once in the request");
+            }
+        }
+
+        // Validate, build and insert chunks in parallel
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, rows.size());
+            tasks.add(() -> {
+                importChunk(rows, start, end, results, username);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Capital call import interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Capital call import failed", e.getCause());
+        }
+
+        int created = (int) Arrays.stream(results).filter(ImportRowResult::isCreated).count();
+        log.info("Capital call import by {}: {} rows, {} created, {} failed", username, rows.size(), created, rows.size() - created);
+        return BulkImportCapitalCallResponse.builder()
+            .total(rows.size())
+            .created(created)
+            .failed(rows.size() - created)
+            .results(Arrays.asList(results))
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void importChunk(List<CreateCapitalCallRequest> rows, int start, int end,
+                             ImportRowResult[] results, String username) {
+        List<Integer> valid = new ArrayList<>();
+        List<CapitalCall> entities = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreateCapitalCallRequest row = rows.get(i);
+            try {
+                validate(row);
+                entities.add(mapper.toDraftEntity(row, username));
+                valid.add(i);
+            } catch (ValidationException e) {
+                results[i] = failed(i, row.getAleBatchId(), e.getErrorCode(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Capital call import row {} could not be processed", i, e);
+                results[i] = failed(i, row.getAleBatchId(), "INTERNAL_ERROR", "An unexpected error occurred");
+            }
+        }
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<CapitalCall> saved = transactionTemplate.execute(status -> repository.saveAll(entities));
+            for (int k = 0; k < valid.size(); k++) {
+                int i = valid.get(k);
+                results[i] = created(i, saved.get(k));
+            }
+        } catch (RuntimeException e) {
+            // Retry alone (with fresh entities) to find the row(s) the database rejects
+            log.warn("Capital call import chunk {}-{} failed, retrying row by row: {}", start, end, rootMessage(e));
+            for (int i : valid) {
+                CreateCapitalCallRequest row = rows.get(i);
+                try {
+                    CapitalCall saved = transactionTemplate.execute(status -> repository.save(mapper.toDraftEntity(row, username)));
+                    results[i] = created(i, saved);
+                } catch (RuntimeException rowError) {
+                    log.warn("Capital call import row {} rejected: {}", i, rootMessage(rowError));
+                    results[i] = storeFailed(i, row.getAleBatchId(), rowError);
+                }
+            }
+        }
+    }
+
+    // Stable code and message for a row the database rejected; the driver message
+    // (table, constraint and column names, values) stays in the log
+    private static ImportRowResult storeFailed(int row, String aleBatchId, RuntimeException e) {
+        if (e instanceof DuplicateKeyException) {
+            return failed(row, aleBatchId, "DUPLICATE_RESOURCE", "Capital call with batch ID " + aleBatchId + " already exists");
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            return failed(row, aleBatchId, "CONSTRAINT_VIOLATION", "Row violates a database constraint (duplicate or out of range value)");
+        }
+        if (e instanceof DataAccessException || e instanceof TransactionException) {
+            return failed(row, aleBatchId, "DATABASE_ERROR", "Row could not be stored, retry the import");
+        }
+        return failed(row, aleBatchId, "INTERNAL_ERROR", "An unexpected error occurred");
+    }
+
+    private static String rootMessage(RuntimeException e) {
+        if (e instanceof DataAccessException dataAccess) {
+            return dataAccess.getMostSpecificCause().getMessage();
+        }
+        if (e instanceof TransactionException transaction) {
+            return transaction.getMostSpecificCause().getMessage();
+        }
+        return e.toString();
+    }
+
+    // Bean constraints (as @Valid would check them), then the business rules
+    private void validate(CreateCapitalCallRequest row) {
+        Set<ConstraintViolation<CreateCapitalCallRequest>> violations = beanValidator.validate(row);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            throw new ValidationException(message, "VALIDATION_ERROR");
+        }
+        validator.validateCreateRequest(row);
+    }
+
+    private Set<String> findExistingAleBatchIds(List<CreateCapitalCallRequest> rows) {
+        List<String> aleBatchIds = rows.stream()
+            .map(CreateCapitalCallRequest::getAleBatchId)
+            .filter(aleBatchId -> aleBatchId != null)
+            .distinct()
+            .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < aleBatchIds.size(); from += EXISTING_ID_CHUNK) {
+            existing.addAll(repository.findExistingAleBatchIds(
+                aleBatchIds.subList(from, Math.min(from + EXISTING_ID_CHUNK, aleBatchIds.size()))));
+        }
+        return existing;
+    }
+
+    private static ImportRowResult created(int row, CapitalCall saved) {
+        return ImportRowResult.builder()
+            .row(row)
+            .aleBatchId(saved.getAleBatchId())
+            .created(true)
+            .id(saved.getId())
+            .build();
+    }
+
+    private static ImportRowResult failed(int row, String aleBatchId, String errorCode, String message) {
+        return ImportRowResult.builder()
+            .row(row)
+            .aleBatchId(aleBatchId)
+            .errorCode(errorCode)
+            .message(message)
+            .build();
+    }
+}
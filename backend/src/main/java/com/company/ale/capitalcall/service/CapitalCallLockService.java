@@ -0,0 +1,188 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.dto.LockLeaseResponse;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import com.company.ale.common.exception.AuthorizationException;
+import com.company.ale.common.exception.ConflictException;
+import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lease-based work item locks on capital calls (CC-01: only the lock holder may edit)
+ *
+ * A lock is a lease: acquire and heartbeat are single conditional UPDATEs that only
+ * succeed while the lock is free, expired or already held by the caller, and move the
+ * expiry to now + lease-ttl. A holder that stops sending heartbeats loses the lock when
+ * the lease runs out: anyone may take an expired lease over, and the sweeper releases
+ * expired leases in batches. Locks taken before leases existed (no expiry) count as
+ * expired one lease-ttl after lockedAt, or at once when lockedAt is missing too.
+ *
+ * Ownership is checked against the lock columns of the capital call the caller has
+ * loaded: the database row is the only record of who holds a lease, so a forced unlock
+ * or a sweep on another instance takes effect everywhere at once.
+ *
+ * Configuration is read from application.properties:
+ * - ale.capital-call.lock.lease-ttl: Lease length granted by acquire / heartbeat (default: PT15M)
+ * - ale.capital-call.lock.sweep-interval-ms: Delay between expired lease sweeps (default: 60000)
+ * - ale.capital-call.lock.sweep-batch-size: Leases released per sweep transaction (default: 500)
+ */
+@Service
+@Slf4j
+public class CapitalCallLockService {
+
+    private final CapitalCallRepository repository;
+    private final AuthorizationService authorizationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseTtl;
+    private final int sweepBatchSize;
+
+    public CapitalCallLockService(CapitalCallRepository repository,
+                                  AuthorizationService authorizationService,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${ale.capital-call.lock.lease-ttl:PT15M}") Duration leaseTtl,
+                                  @Value("${ale.capital-call.lock.sweep-batch-size:500}") int sweepBatchSize) {
+        this.repository = repository;
+        this.authorizationService = authorizationService;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseTtl = leaseTtl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * Take the lock on a capital call for the user
+     * @throws ResourceNotFoundException if the capital call does not exist
+     * @throws ConflictException LOCKED if another user holds a live lease
+     */
+    @Transactional
+    public LockLeaseResponse acquire(Long id, String username) {
+        authorizationService.checkPermission(RuleType.RULE_EDIT);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+        if (repository.acquireLease(id, username, now, now.minus(leaseTtl), expiresAt) == 0) {
+            throw notAvailable(id);
+        }
+        return lease(id, username, expiresAt);
+    }
+
+    /**
+     * Extend the user's lease; a lock that meanwhile became free or expired is taken again
+     * @throws ResourceNotFoundException if the capital call does not exist
+     * @throws ConflictException LOCKED if another user holds a live lease
+     */
+    @Transactional
+    public LockLeaseResponse heartbeat(Long id, String username) {
+        authorizationService.checkPermission(RuleType.RULE_EDIT);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+        if (repository.renewLease(id, username, expiresAt) == 0
+                && repository.acquireLease(id, username, now, now.minus(leaseTtl), expiresAt) == 0) {
+            throw notAvailable(id);
+        }
+        return lease(id, username, expiresAt);
+    }
+
+    /**
+     * Release the user's lock; releasing a free lock is a no-op
+     * @throws ResourceNotFoundException if the capital call does not exist
+     * @throws ConflictException LOCK_NOT_HELD if another user holds it (use unlock to force)
+     */
+    @Transactional
+    public void release(Long id, String username) {
+        authorizationService.checkPermission(RuleType.RULE_EDIT);
+
+        if (repository.releaseLease(id, username) == 0) {
+            CapitalCallRepository.LeaseState state = repository.findLeaseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+            if (state.getLockedBy() != null) {
+                throw new ConflictException("Capital call " + id + " is locked by another user", "LOCK_NOT_HELD");
+            }
+        }
+    }
+
+    /**
+     * Check that the user holds a live lease on a capital call already loaded (CC-01)
+     * Decided by the loaded lock columns alone, without another read.
+     * @throws AuthorizationException if the lock is held by someone else, or the lease is over
+     */
+    public void requireHeldBy(CapitalCall capitalCall, String username) {
+        if (!username.equals(capitalCall.getLockedBy())) {
+            throw new AuthorizationException("Capital call is locked by another user");
+        }
+        LocalDateTime expiresAt = capitalCall.getLockExpiresAt();
+        if (expiresAt == null && capitalCall.getLockedAt() != null) {
+            // Locked before leases existed
+            expiresAt = capitalCall.getLockedAt().plus(leaseTtl);
+        }
+        if (expiresAt == null || !expiresAt.isAfter(LocalDateTime.now())) {
+            throw new AuthorizationException("Capital call lock has expired, lock it again to edit");
+        }
+    }
+
+    /**
+     * Expiry of a lease granted now (locks set by workflow actions and draft creation)
+     */
+    public LocalDateTime leaseExpiry(LocalDateTime now) {
+        return now.plus(leaseTtl);
+    }
+
+    /**
+     * Release expired leases, sweepBatchSize per transaction, oldest first
+     * Every instance may sweep: the release UPDATE re-checks the expiry, so a lease
+     * renewed in between is kept and a lease released twice is counted once.
+     */
+    @Scheduled(fixedDelayString = "${ale.capital-call.lock.sweep-interval-ms:60000}")
+    public void releaseExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(leaseTtl);
+        int[] released = {0};
+        try {
+            List<Long> expired;
+            do {
+                expired = transactionTemplate.execute(tx -> {
+                    List<Long> ids = repository.findExpiredLeaseIds(now, staleBefore, PageRequest.of(0, sweepBatchSize));
+                    if (!ids.isEmpty()) {
+                        released[0] += repository.releaseExpiredLeases(ids, now, staleBefore);
+                    }
+                    return ids;
+                });
+            } while (expired.size() == sweepBatchSize);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Expired capital call lock sweep failed, retrying on next run: {}", e.getMessage());
+        }
+        if (released[0] > 0) {
+            log.info("Released {} expired capital call locks", released[0]);
+        }
+    }
+
+    private ConflictException notAvailable(Long id) {
+        CapitalCallRepository.LeaseState state = repository.findLeaseById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+        String holder = state.getLockedBy() != null ? state.getLockedBy() : "another user";
+        String until = state.getLockExpiresAt() != null ? " until " + state.getLockExpiresAt() : "";
+        return new ConflictException("Capital call " + id + " is locked by " + holder + until, "LOCKED");
+    }
+
+    private static LockLeaseResponse lease(Long id, String username, LocalDateTime expiresAt) {
+        return LockLeaseResponse.builder()
+            .id(id)
+            .lockedBy(username)
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
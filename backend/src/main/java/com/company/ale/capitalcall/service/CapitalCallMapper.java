@@ -2,17 +2,72 @@ package com.company.ale.capitalcall.service;
 
 import com.company.ale.capitalcall.domain.CapitalCall;
 import com.company.ale.capitalcall.domain.CapitalCallBreakdown;
+import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
 import com.company.ale.capitalcall.dto.*;
+import com.company.ale.common.export.ExportColumn;
+import com.company.ale.common.pagination.SearchProjection;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Mapper for converting Capital Call entities to DTOs
  */
 @Component
+@RequiredArgsConstructor
 public class CapitalCallMapper {
     
+    // Lease granted to the creator of a draft
+    private final CapitalCallLockService lockService;
+    
+    /**
+     * Columns read by the search projection (see toResponse(Tuple))
+     */
+    private static final SearchProjection<CapitalCallResponse> SEARCH_PROJECTION = SearchProjection.of(
+        List.of("id", "aleBatchId", "fromDate", "toDate", "dayType", "totalAmount", "workflowStatus",
+            "lockedBy", "lockedAt", "clientName", "assetDescription", "isSensitive", "createdAt", "createdBy"),
+        CapitalCallMapper::toResponse);
+    
+    /**
+     * Columns of the capital call export, in file order
+     */
+    private static final List<ExportColumn<CapitalCallResponse>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("ID", CapitalCallResponse::getId),
+        ExportColumn.of("ALE Batch ID", CapitalCallResponse::getAleBatchId),
+        ExportColumn.of("From Date", CapitalCallResponse::getFromDate),
+        ExportColumn.of("To Date", CapitalCallResponse::getToDate),
+        ExportColumn.of("Day Type", CapitalCallResponse::getDayType),
+        ExportColumn.of("Total Amount", CapitalCallResponse::getTotalAmount),
+        ExportColumn.of("Workflow Status", CapitalCallResponse::getWorkflowStatus),
+        ExportColumn.of("Locked By", CapitalCallResponse::getLockedBy),
+        ExportColumn.of("Locked At", CapitalCallResponse::getLockedAt),
+        ExportColumn.of("Client Name", CapitalCallResponse::getClientName),
+        ExportColumn.of("Asset Description", CapitalCallResponse::getAssetDescription),
+        ExportColumn.of("Sensitive", CapitalCallResponse::getIsSensitive),
+        ExportColumn.of("Created At", CapitalCallResponse::getCreatedAt),
+        ExportColumn.of("Created By", CapitalCallResponse::getCreatedBy));
+    
+    /**
+     * Columns written by the export, read from searchProjection() rows
+     */
+    public List<ExportColumn<CapitalCallResponse>> exportColumns() {
+        return EXPORT_COLUMNS;
+    }
+    
+    /**
+     * Projection used by search to select rows straight into CapitalCallResponse
+     */
+    public SearchProjection<CapitalCallResponse> searchProjection() {
+        return SEARCH_PROJECTION;
+    }
+    
     /**
      * Convert CapitalCall entity to CapitalCallResponse
      */
@@ -39,6 +94,28 @@ public class CapitalCallMapper {
             .build();
     }
     
+    /**
+     * Convert a search projection tuple to CapitalCallResponse
+     */
+    private static CapitalCallResponse toResponse(Tuple tuple) {
+        return CapitalCallResponse.builder()
+            .id(tuple.get("id", Long.class))
+            .aleBatchId(tuple.get("aleBatchId", String.class))
+            .fromDate(tuple.get("fromDate", LocalDate.class))
+            .toDate(tuple.get("toDate", LocalDate.class))
+            .dayType(tuple.get("dayType", String.class))
+            .totalAmount(tuple.get("totalAmount", BigDecimal.class))
+            .workflowStatus(tuple.get("workflowStatus", WorkflowStatus.class))
+            .lockedBy(tuple.get("lockedBy", String.class))
+            .lockedAt(tuple.get("lockedAt", LocalDateTime.class))
+            .clientName(tuple.get("clientName", String.class))
+            .assetDescription(tuple.get("assetDescription", String.class))
+            .isSensitive(tuple.get("isSensitive", Boolean.class))
+            .createdAt(tuple.get("createdAt", LocalDateTime.class))
+            .createdBy(tuple.get("createdBy", String.class))
+            .build();
+    }
+    
     /**
      * Convert CapitalCall entity to CapitalCallDetailResponse with breakdowns
      */
@@ -56,6 +133,7 @@ public class CapitalCallMapper {
             .workflowStatus(entity.getWorkflowStatus())
             .lockedBy(entity.getLockedBy())
             .lockedAt(entity.getLockedAt())
+            .lockExpiresAt(entity.getLockExpiresAt())
             .clientName(entity.getClientName())
             .assetDescription(entity.getAssetDescription())
             .toeReference(entity.getToeReference())
@@ -110,6 +188,33 @@ public class CapitalCallMapper {
         return entity;
     }
     
+    /**
+     * Build a new DRAFT capital call, locked by its creator, with its breakdowns
+     * and their calculated amounts (used by single create and bulk import)
+     */
+    public CapitalCall toDraftEntity(CreateCapitalCallRequest request, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        CapitalCall entity = toEntity(request);
+        entity.setBreakdowns(new ArrayList<>());
+        entity.setWorkflowStatus(WorkflowStatus.DRAFT);
+        entity.setQueue(CapitalCallQueue.SSI_VERIFICATION);
+        entity.setCreatedAt(now);
+        entity.setCreatedBy(username);
+        entity.setLockedBy(username);
+        entity.setLockedAt(now);
+        entity.setLockExpiresAt(lockService.leaseExpiry(now));
+        
+        for (CreateBreakdownRequest breakdownRequest : request.getBreakdowns()) {
+            CapitalCallBreakdown breakdown = CapitalCallBreakdown.builder()
+                .category(breakdownRequest.getCategory())
+                .percentage(breakdownRequest.getPercentage())
+                .build();
+            breakdown.calculateAmount(request.getTotalAmount(), 2);
+            entity.addBreakdown(breakdown);
+        }
+        return entity;
+    }
+    
     /**
      * Update CapitalCall entity from UpdateCapitalCallRequest
      */
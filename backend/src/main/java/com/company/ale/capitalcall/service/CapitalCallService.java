@@ -3,27 +3,38 @@ package com.company.ale.capitalcall.service;
 import com.company.ale.capitalcall.domain.CapitalCall;
 import com.company.ale.capitalcall.domain.CapitalCallBreakdown;
 import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowAction;
 import com.company.ale.capitalcall.domain.WorkflowStatus;
 import com.company.ale.capitalcall.dto.*;
 import com.company.ale.capitalcall.repository.CapitalCallRepository;
 import com.company.ale.capitalcall.validator.CapitalCallValidator;
 import com.company.ale.common.exception.ResourceNotFoundException;
 import com.company.ale.common.exception.AuthorizationException;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchExecutor;
+import com.company.ale.common.pagination.SearchPage;
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
 import com.company.ale.common.security.AuthorizationService;
 import com.company.ale.common.security.RuleType;
-import com.company.ale.documenttracker.service.SortUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +50,17 @@ public class CapitalCallService {
     private final AuthorizationService authorizationService;
     private final CapitalCallValidator validator;
     private final CapitalCallMapper mapper;
+    private final SearchExecutor searchExecutor;
+    private final NgramIndexRegistry ngramIndexes;
+    private final CapitalCallCounters counters;
+    private final CapitalCallTransitions transitions;
+    private final CapitalCallLockService lockService;
+    
+    @Value("${ale.search.dto-projection:true}")
+    private boolean dtoProjection;
+    
+    @Value("${ale.capital-call.bulk-transition.max-items:1000}")
+    private int maxTransitionItems;
     
     /**
      * Search capital calls with filters, pagination, and sorting
@@ -46,24 +68,19 @@ public class CapitalCallService {
     public SearchResponse<CapitalCallResponse> search(SearchRequest request) {
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         
-        CapitalCallSpecification spec = new CapitalCallSpecification(request.getFilters());
-        
-        Pageable pageable = PageRequest.of(
-            request.getPagination().getPageOrDefault(),
-            request.getPagination().getSizeOrDefault(),
-            SortUtil.toSort(request.getSort())
-        );
+        CapitalCallSpecification spec = new CapitalCallSpecification(request.getFilters(), ngramIndexes.forEntity(CapitalCall.class));
         
-        Page<CapitalCall> page = repository.findAll(spec, pageable);
+        SearchPage<CapitalCallResponse> page;
+        if (dtoProjection) {
+            page = searchExecutor.search(repository, CapitalCall.class, spec, request, mapper.searchProjection());
+        } else {
+            SearchPage<CapitalCall> entities = searchExecutor.search(repository, CapitalCall.class, spec, request);
+            page = entities.map(mapper::toResponse);
+        }
         
         return SearchResponse.<CapitalCallResponse>builder()
-            .data(page.map(mapper::toResponse).getContent())
-            .pagination(com.company.ale.common.pagination.PaginationMetadata.builder()
-                .currentPage(page.getNumber())
-                .pageSize(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .build())
+            .data(page.getContent())
+            .pagination(page.toMetadata())
             .build();
     }
     
@@ -73,12 +90,22 @@ public class CapitalCallService {
     public CapitalCallDetailResponse getById(Long id) {
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         
-        CapitalCall entity = repository.findById(id)
+        CapitalCall entity = repository.findWithBreakdownsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
         
         return mapper.toDetailResponse(entity);
     }
     
+    /**
+     * Current version of a capital call (ETag check) without loading it
+     */
+    public Integer getVersion(Long id) {
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        return repository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+    }
+    
     /**
      * Create a new capital call
      */
@@ -89,23 +116,8 @@ public class CapitalCallService {
         // Validate business rules
         validator.validateCreateRequest(request);
         
-        // Create entity
-        CapitalCall entity = mapper.toEntity(request);
-        entity.setWorkflowStatus(WorkflowStatus.DRAFT);
-        entity.setCreatedAt(LocalDateTime.now());
-        entity.setCreatedBy(username);
-        entity.setLockedBy(username);
-        entity.setLockedAt(LocalDateTime.now());
-        
-        // Add breakdowns
-        for (CreateBreakdownRequest breakdownRequest : request.getBreakdowns()) {
-            CapitalCallBreakdown breakdown = CapitalCallBreakdown.builder()
-                .category(breakdownRequest.getCategory())
-                .percentage(breakdownRequest.getPercentage())
-                .build();
-            breakdown.calculateAmount(request.getTotalAmount(), 2);
-            entity.addBreakdown(breakdown);
-        }
+        // Create entity (DRAFT, locked by the creator) with breakdowns
+        CapitalCall entity = mapper.toDraftEntity(request, username);
         
         CapitalCall saved = repository.save(entity);
         return mapper.toDetailResponse(saved);
@@ -118,13 +130,11 @@ public class CapitalCallService {
     public CapitalCallDetailResponse update(Long id, UpdateCapitalCallRequest request, String username) {
         authorizationService.checkPermission(RuleType.RULE_EDIT);
         
-        CapitalCall entity = repository.findById(id)
+        CapitalCall entity = repository.findWithBreakdownsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
         
-        // Check lock ownership (CC-01)
-        if (!username.equals(entity.getLockedBy())) {
-            throw new AuthorizationException("Capital call is locked by another user");
-        }
+        // Check lock ownership (CC-01) on the loaded row
+        lockService.requireHeldBy(entity, username);
         
         // Prevent update if status is APPROVED (business rule)
         if (entity.getWorkflowStatus() == WorkflowStatus.APPROVED) {
@@ -156,118 +166,201 @@ public class CapitalCallService {
     }
     
     /**
-     * Submit a capital call for approval (DRAFT → SUBMITTED)
+     * Apply a workflow action (submit, approve, reject, unlock) to one capital call
+     * with a guarded UPDATE (see CapitalCallTransitions)
+     * @param expectedVersion version the caller last saw, null to act on the current one
+     * @param includeDetail whether to load and return the detail view afterwards
+     * @return the detail view, or null when not requested
      */
     @Transactional
-    public CapitalCallDetailResponse submit(Long id, String username) {
-        authorizationService.checkPermission(RuleType.RULE_SUBMIT);
-        
-        CapitalCall entity = repository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+    public CapitalCallDetailResponse transition(WorkflowAction action, Long id, Integer expectedVersion,
+                                                boolean includeDetail, String username) {
+        authorizationService.checkPermission(requiredRule(action));
         
-        // Validate state transition (CC-07)
-        if (entity.getWorkflowStatus() != WorkflowStatus.DRAFT) {
-            throw new AuthorizationException("Capital call can only be submitted from DRAFT status");
+        transitions.transition(action, id, expectedVersion, username);
+        if (!includeDetail) {
+            return null;
         }
         
-        // Validate business rules
-        validator.validateForSubmission(entity);
-        
-        // Update status
-        entity.setWorkflowStatus(WorkflowStatus.SUBMITTED);
-        entity.setModifiedBy(username);
-        entity.setModifiedAt(LocalDateTime.now());
-        entity.setLockedBy(null);
-        entity.setLockedAt(null);
-        
-        CapitalCall updated = repository.save(entity);
-        return mapper.toDetailResponse(updated);
+        CapitalCall entity = repository.findWithBreakdownsById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+        return mapper.toDetailResponse(entity);
     }
     
     /**
-     * Approve a capital call (SUBMITTED → APPROVED)
+     * Apply a workflow action to many capital calls at once
+     * Items are checked against one grouped read; per expected version, the rows still at
+     * that version are locked (SELECT ... FOR UPDATE) and updated with one guarded UPDATE.
+     * Items whose status or version no longer allow the action
+     * are reported as rejected instead of failing the whole request.
      */
     @Transactional
-    public CapitalCallDetailResponse approve(Long id, String username) {
-        authorizationService.checkPermission(RuleType.RULE_APPROVE);
-        
-        CapitalCall entity = repository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+    public BulkTransitionResponse bulkTransition(WorkflowAction action, BulkTransitionRequest request, String username) {
+        authorizationService.checkPermission(requiredRule(action));
         
-        // Validate state transition (CC-07)
-        if (entity.getWorkflowStatus() != WorkflowStatus.SUBMITTED) {
-            throw new AuthorizationException("Capital call can only be approved from SUBMITTED status");
+        List<TransitionItem> items = request.getItems();
+        if (items.size() > maxTransitionItems) {
+            throw new ValidationException("Request has " + items.size() + " items, the maximum is " + maxTransitionItems, "VAL_015");
         }
         
-        // Update status
-        entity.setWorkflowStatus(WorkflowStatus.APPROVED);
-        entity.setModifiedBy(username);
-        entity.setModifiedAt(LocalDateTime.now());
-        
-        CapitalCall updated = repository.save(entity);
-        return mapper.toDetailResponse(updated);
-    }
-    
-    /**
-     * Reject a capital call (SUBMITTED → DRAFT)
-     */
-    @Transactional
-    public CapitalCallDetailResponse reject(Long id, String username) {
-        authorizationService.checkPermission(RuleType.RULE_APPROVE);
+        List<TransitionRejection> rejected = new ArrayList<>();
+        Map<Long, TransitionItem> requested = new LinkedHashMap<>();
+        for (TransitionItem item : items) {
+            if (requested.putIfAbsent(item.getId(), item) != null) {
+                rejected.add(rejection(item.getId(), "VAL_016", "Capital call " + item.getId() + " appears more than once in the request", null));
+            }
+        }
         
-        CapitalCall entity = repository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+        // Check every item against its current state (CC-07, submission rules, expected version)
+        Map<Long, CapitalCallRepository.TransitionState> states = repository.findTransitionStates(requested.keySet()).stream()
+            .collect(Collectors.toMap(CapitalCallRepository.TransitionState::getId, Function.identity()));
+        Map<Integer, List<Long>> byVersion = new TreeMap<>();
+        for (TransitionItem item : requested.values()) {
+            CapitalCallRepository.TransitionState state = states.get(item.getId());
+            if (state == null) {
+                rejected.add(rejection(item.getId(), "NOT_FOUND", "Capital call not found with ID: " + item.getId(), null));
+                continue;
+            }
+            if (!transitions.allows(action, state.getWorkflowStatus())) {
+                rejected.add(rejection(item.getId(), "BUS_001",
+                    String.format("Invalid status transition from %s to %s", state.getWorkflowStatus(), action.getToStatus()), state));
+                continue;
+            }
+            if (item.getVersion() != null && !item.getVersion().equals(state.getVersion())) {
+                rejected.add(rejection(item.getId(), "STALE_VERSION", "Capital call was modified by another user", state));
+                continue;
+            }
+            if (action == WorkflowAction.SUBMIT) {
+                try {
+                    validator.validateForSubmission(state.getPercentageTotal(), state.getFromDate(), state.getToDate());
+                } catch (ValidationException e) {
+                    rejected.add(rejection(item.getId(), e.getErrorCode(), e.getMessage(), state));
+                    continue;
+                }
+            }
+            byVersion.computeIfAbsent(state.getVersion(), version -> new ArrayList<>()).add(item.getId());
+        }
         
-        // Validate state transition (CC-07)
-        if (entity.getWorkflowStatus() != WorkflowStatus.SUBMITTED) {
-            throw new AuthorizationException("Capital call can only be rejected from SUBMITTED status");
+        // Per version: lock the rows still at the version that was checked (the others
+        // changed since the read and are stale), then one guarded UPDATE of exactly those
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> transitioned = new HashSet<>();
+        for (Map.Entry<Integer, List<Long>> group : byVersion.entrySet()) {
+            List<Long> ids = group.getValue();
+            List<Long> locked = repository.lockAtVersion(ids, group.getKey()).stream().map(Number::longValue).toList();
+            if (!locked.isEmpty()) {
+                int updated = transitions.apply(action, locked, group.getKey(), username, now);
+                if (updated != locked.size()) {
+                    throw new IllegalStateException("Bulk " + action + " updated " + updated + " of " + locked.size() + " locked capital calls");
+                }
+                transitioned.addAll(locked);
+            }
+            List<Long> stale = ids.stream().filter(id -> !transitioned.contains(id)).toList();
+            if (!stale.isEmpty()) {
+                for (CapitalCallRepository.TransitionState state : repository.findTransitionStates(stale)) {
+                    rejected.add(rejection(state.getId(), "STALE_VERSION", "Capital call was modified by another user", state));
+                }
+            }
         }
         
-        // Update status and re-acquire lock
-        entity.setWorkflowStatus(WorkflowStatus.REJECTED);
-        entity.setModifiedBy(username);
-        entity.setModifiedAt(LocalDateTime.now());
-        entity.setLockedBy(username);
-        entity.setLockedAt(LocalDateTime.now());
+        // Bulk updates bypass CapitalCallCountListener, so adjust the counters here
+        if (action.changesStatus() && !transitioned.isEmpty()) {
+            List<CapitalCallQueue> queues = transitioned.stream().map(id -> states.get(id).getQueue()).toList();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queues.forEach(queue -> counters.move(queue, action.getFromStatus(), queue, action.getToStatus()));
+                }
+            });
+        }
         
-        CapitalCall updated = repository.save(entity);
-        return mapper.toDetailResponse(updated);
+        return BulkTransitionResponse.builder()
+            .action(action)
+            .transitioned(requested.keySet().stream().filter(transitioned::contains).toList())
+            .rejected(rejected)
+            .build();
     }
     
-    /**
-     * Unlock a capital call (administrative operation)
-     */
-    @Transactional
-    public void unlock(Long id, String username) {
-        authorizationService.checkPermission(RuleType.RULE_UNLOCK_WORK_ITEM);
-        
-        CapitalCall entity = repository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
-        
-        entity.setLockedBy(null);
-        entity.setLockedAt(null);
-        entity.setModifiedBy(username);
-        entity.setModifiedAt(LocalDateTime.now());
-        
-        repository.save(entity);
+    private RuleType requiredRule(WorkflowAction action) {
+        return switch (action) {
+            case SUBMIT -> RuleType.RULE_SUBMIT;
+            case APPROVE, REJECT -> RuleType.RULE_APPROVE;
+            case UNLOCK -> RuleType.RULE_UNLOCK_WORK_ITEM;
+        };
+    }
+    
+    private TransitionRejection rejection(Long id, String errorCode, String message, CapitalCallRepository.TransitionState state) {
+        return TransitionRejection.builder()
+            .id(id)
+            .errorCode(errorCode)
+            .message(message)
+            .currentStatus(state != null ? state.getWorkflowStatus() : null)
+            .currentVersion(state != null ? state.getVersion() : null)
+            .build();
     }
 
+    /**
+     * Counts per queue (all queues when none are requested), optionally broken down
+     * by workflow status: in-memory counters when unfiltered, else one grouped query
+     */
     public CapitalCallCountResponse getCountsByQueue(CapitalCallCountRequest request) {
+        List<CapitalCallQueue> queues = request.getQueues() == null || request.getQueues().isEmpty()
+            ? Arrays.asList(CapitalCallQueue.values())
+            : request.getQueues().stream().distinct().toList();
+
+        // Requested queues keep their order and report 0 when empty
         Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> statusCounts = new LinkedHashMap<>();
+        for (CapitalCallQueue queue : queues) {
+            counts.put(queue.name(), 0L);
+            if (request.isIncludeStatusBreakdown()) {
+                Map<String, Long> byStatus = new LinkedHashMap<>();
+                for (WorkflowStatus status : WorkflowStatus.values()) {
+                    byStatus.put(status.name(), 0L);
+                }
+                statusCounts.put(queue.name(), byStatus);
+            }
+        }
 
-        for (CapitalCallQueue queue : request.getQueues()) {
-            long count = repository.countByQueueAndFilters(
-                queue.name(),
+        if (counters.isReady() && !hasCountFilters(request)) {
+            // Unfiltered requests are answered from the in-memory counters
+            for (CapitalCallQueue queue : queues) {
+                for (WorkflowStatus status : WorkflowStatus.values()) {
+                    addCount(counts, statusCounts, queue, status, counters.count(queue, status), request);
+                }
+            }
+        } else {
+            List<CapitalCallRepository.QueueStatusCount> rows = repository.countByQueueAndStatus(
+                queues,
                 request.getEffectiveDateFrom(),
                 request.getEffectiveDateTo(),
                 request.getAleBatchId(),
                 request.getToeReference()
             );
-            counts.put(queue.name(), count);
+            for (CapitalCallRepository.QueueStatusCount row : rows) {
+                addCount(counts, statusCounts, row.getQueue(), row.getWorkflowStatus(), row.getTotal(), request);
+            }
         }
 
         return CapitalCallCountResponse.builder()
             .counts(counts)
+            .statusCounts(request.isIncludeStatusBreakdown() ? statusCounts : null)
             .build();
     }
+
+    private void addCount(Map<String, Long> counts, Map<String, Map<String, Long>> statusCounts,
+                          CapitalCallQueue queue, WorkflowStatus status, long count,
+                          CapitalCallCountRequest request) {
+        counts.merge(queue.name(), count, Long::sum);
+        if (request.isIncludeStatusBreakdown()) {
+            statusCounts.get(queue.name()).put(status.name(), count);
+        }
+    }
+
+    private boolean hasCountFilters(CapitalCallCountRequest request) {
+        return request.getEffectiveDateFrom() != null
+            || request.getEffectiveDateTo() != null
+            || request.getAleBatchId() != null
+            || request.getToeReference() != null;
+    }
 }
@@ -2,73 +2,50 @@ package com.company.ale.capitalcall.service;
 
 import com.company.ale.capitalcall.domain.CapitalCall;
 import com.company.ale.capitalcall.domain.WorkflowStatus;
+import com.company.ale.common.filter.BoundFilter;
+import com.company.ale.common.filter.FilterField;
+import com.company.ale.common.filter.FilterOperator;
+import com.company.ale.common.filter.FilterPlanCompiler;
+import com.company.ale.common.filter.NgramIndex;
 import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 /**
  * JPA Specification for dynamic CapitalCall queries
+ * Filter values are parsed and validated once, when the specification is created;
+ * the per-shape plan is compiled once and cached by the FilterPlanCompiler
  */
 public class CapitalCallSpecification implements Specification<CapitalCall> {
     
-    private final Map<String, Object> filters;
+    private static final FilterPlanCompiler<CapitalCall> PLANS = FilterPlanCompiler.of(
+        FilterField.text("aleBatchId", FilterOperator.CONTAINS),
+        FilterField.text("toeReference", FilterOperator.CONTAINS),
+        FilterField.enumValue("workflowStatus", WorkflowStatus.class),
+        FilterField.text("clientName", FilterOperator.CONTAINS_IGNORE_CASE),
+        FilterField.date("fromDate", FilterOperator.GREATER_OR_EQUAL),
+        FilterField.date("toDate", FilterOperator.LESS_OR_EQUAL),
+        FilterField.text("dayType", FilterOperator.EQUALS)
+    );
+    
+    private final BoundFilter<CapitalCall> filter;
     
     public CapitalCallSpecification(Map<String, Object> filters) {
-        this.filters = filters;
+        this(filters, null);
+    }
+    
+    /**
+     * @param index n-gram index used to narrow the substring filters, or null
+     */
+    public CapitalCallSpecification(Map<String, Object> filters, NgramIndex index) {
+        this.filter = PLANS.bind(filters, index);
     }
     
     @Override
     public Predicate toPredicate(Root<CapitalCall> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        List<Predicate> predicates = new ArrayList<>();
-        
-        if (filters == null || filters.isEmpty()) {
-            return cb.conjunction();
-        }
-        
-        for (Map.Entry<String, Object> entry : filters.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-            
-            if (value == null) {
-                continue;
-            }
-            
-            switch (key) {
-                case "aleBatchId":
-                    predicates.add(cb.like(root.get("aleBatchId"), "%" + value + "%"));
-                    break;
-                case "toeReference":
-                    predicates.add(cb.like(root.get("toeReference"), "%" + value + "%"));
-                    break;
-                case "workflowStatus":
-                    predicates.add(cb.equal(root.get("workflowStatus"), WorkflowStatus.valueOf(value.toString())));
-                    break;
-                case "clientName":
-                    predicates.add(cb.like(cb.lower(root.get("clientName")), "%" + value.toString().toLowerCase() + "%"));
-                    break;
-                case "fromDate":
-                    predicates.add(cb.greaterThanOrEqualTo(root.get("fromDate"), LocalDate.parse(value.toString())));
-                    break;
-                case "toDate":
-                    predicates.add(cb.lessThanOrEqualTo(root.get("toDate"), LocalDate.parse(value.toString())));
-                    break;
-                case "dayType":
-                    if (!value.toString().isEmpty()) {
-                        predicates.add(cb.equal(root.get("dayType"), value));
-                    }
-                    break;
-                default:
-                    // Ignore unknown filters
-                    break;
-            }
-        }
-        
-        return cb.and(predicates.toArray(new Predicate[0]));
+        return filter.toPredicate(root, cb);
     }
 }
@@ -0,0 +1,171 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.domain.WorkflowAction;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import com.company.ale.capitalcall.validator.CapitalCallValidator;
+import com.company.ale.capitalcall.validator.WorkflowValidator;
+import com.company.ale.common.exception.AuthorizationException;
+import com.company.ale.common.exception.ConflictException;
+import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.exception.ValidationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Applies a workflow action as one guarded UPDATE statement.
+ *
+ * The statement only matches rows still in the action's source status and at the
+ * expected version, sets the new status / lock / audit fields and bumps the version,
+ * so the affected row count tells how many items actually transitioned. It bypasses
+ * the persistence context and entity listeners: callers must run it in a transaction
+ * and account for the queue counters themselves (transition() does).
+ *
+ * Configuration is read from application.properties:
+ * - ale.capital-call.transition.max-retries: Extra attempts when a single transition
+ *   loses a race with a concurrent update (default: 3)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CapitalCallTransitions {
+
+    private final EntityManager entityManager;
+    private final CapitalCallRepository repository;
+    private final CapitalCallValidator validator;
+    private final WorkflowValidator workflowValidator;
+    private final CapitalCallCounters counters;
+    private final CapitalCallLockService lockService;
+
+    @Value("${ale.capital-call.transition.max-retries:3}")
+    private int maxRetries;
+
+    /**
+     * Whether the action may start from the given status: it must be the action's
+     * source status and the move must be allowed by WorkflowValidator (CC-07)
+     */
+    public boolean allows(WorkflowAction action, WorkflowStatus current) {
+        return !action.changesStatus()
+            || (current == action.getFromStatus() && workflowValidator.isTransitionValid(current, action.getToStatus()));
+    }
+
+    /**
+     * Apply a workflow action to one capital call: a light state read, then one guarded
+     * UPDATE. An UPDATE matching nothing means the row changed in between; the state is
+     * then re-read and the action retried up to max-retries times, unless the caller
+     * pinned the version it expects.
+     * @param expectedVersion version the caller last saw, null to act on the current one
+     * @return the state the action was applied to
+     * @throws ResourceNotFoundException if the capital call does not exist
+     * @throws AuthorizationException if its status does not allow the action (403, as before guarded UPDATEs)
+     * @throws ValidationException a submission rule code
+     * @throws ConflictException STALE_VERSION if it changed since the expected version, or kept changing
+     */
+    public CapitalCallRepository.TransitionState transition(WorkflowAction action, Long id, Integer expectedVersion,
+                                                            String username) {
+        for (int attempt = 0; ; attempt++) {
+            CapitalCallRepository.TransitionState state = repository.findTransitionStates(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Capital call not found with ID: " + id));
+            if (!allows(action, state.getWorkflowStatus())) {
+                throw new AuthorizationException(
+                    String.format("Capital call can only be %s from %s status", pastTense(action), action.getFromStatus()));
+            }
+            if (expectedVersion != null && !expectedVersion.equals(state.getVersion())) {
+                throw stale(id);
+            }
+            if (action == WorkflowAction.SUBMIT) {
+                validator.validateForSubmission(state.getPercentageTotal(), state.getFromDate(), state.getToDate());
+            }
+
+            if (apply(action, List.of(id), state.getVersion(), username, LocalDateTime.now()) == 1) {
+                if (action.changesStatus()) {
+                    // The UPDATE bypasses CapitalCallCountListener
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            counters.move(state.getQueue(), state.getWorkflowStatus(), state.getQueue(), action.getToStatus());
+                        }
+                    });
+                }
+                return state;
+            }
+            if (expectedVersion != null || attempt >= maxRetries) {
+                throw stale(id);
+            }
+            log.debug("Capital call {} changed during {}, retrying (attempt {})", id, action, attempt + 1);
+        }
+    }
+
+    /**
+     * @param action the workflow action
+     * @param ids capital calls expected at the given version
+     * @param expectedVersion version the rows must still have
+     * @param username user performing the action (audit, and lock owner for ACQUIRE)
+     * @param now timestamp for the audit / lock fields
+     * @return number of rows updated
+     */
+    public int apply(WorkflowAction action, Collection<Long> ids, int expectedVersion,
+                     String username, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<CapitalCall> update = cb.createCriteriaUpdate(CapitalCall.class);
+        Root<CapitalCall> root = update.from(CapitalCall.class);
+
+        if (action.changesStatus()) {
+            update.set("workflowStatus", action.getToStatus());
+        }
+        switch (action.getLockChange()) {
+            case ACQUIRE -> {
+                update.set("lockedBy", username);
+                update.set("lockedAt", now);
+                update.set("lockExpiresAt", lockService.leaseExpiry(now));
+            }
+            case RELEASE -> {
+                update.set(root.<String>get("lockedBy"), cb.nullLiteral(String.class));
+                update.set(root.<LocalDateTime>get("lockedAt"), cb.nullLiteral(LocalDateTime.class));
+                update.set(root.<LocalDateTime>get("lockExpiresAt"), cb.nullLiteral(LocalDateTime.class));
+            }
+            case KEEP -> { }
+        }
+        update.set("modifiedBy", username);
+        update.set("modifiedAt", now);
+        update.set(root.<Integer>get("version"), cb.sum(root.<Integer>get("version"), 1));
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(root.get("id").in(ids));
+        where.add(cb.equal(root.get("version"), expectedVersion));
+        if (action.getFromStatus() != null) {
+            where.add(cb.equal(root.get("workflowStatus"), action.getFromStatus()));
+        }
+        update.where(where.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static String pastTense(WorkflowAction action) {
+        return switch (action) {
+            case SUBMIT -> "submitted";
+            case APPROVE -> "approved";
+            case REJECT -> "rejected";
+            case UNLOCK -> "unlocked";
+        };
+    }
+
+    private static ConflictException stale(Long id) {
+        return new ConflictException("Capital call " + id + " was modified by another user, reload and retry", "STALE_VERSION");
+    }
+}
@@ -87,23 +87,30 @@ public class CapitalCallValidator {
      * Validate capital call for submission
      */
     public void validateForSubmission(CapitalCall entity) {
-        // CC-03: Percentage total ≤ 100
         BigDecimal percentageTotal = entity.getBreakdowns().stream()
             .map(b -> b.getPercentage())
             .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
+        validateForSubmission(percentageTotal, entity.getFromDate(), entity.getToDate());
+    }
+    
+    /**
+     * Validate capital call for submission from its breakdown percentage total and
+     * date range (used by bulk submit, which reads the total with a grouped query)
+     */
+    public void validateForSubmission(BigDecimal percentageTotal, LocalDate fromDate, LocalDate toDate) {
+        // CC-03: Percentage total ≤ 100
         if (percentageTotal.compareTo(BigDecimal.valueOf(100)) > 0) {
             throw new ValidationException("Percentage total cannot exceed 100%", "VAL_003");
         }
         
         // CC-05: Validate date range
-        if (entity.getFromDate() != null && entity.getToDate() != null) {
-            if (entity.getFromDate().isAfter(entity.getToDate())) {
+        if (fromDate != null && toDate != null) {
+            if (fromDate.isAfter(toDate)) {
                 throw new ValidationException("From date must be before or equal to to date", "VAL_004");
             }
             
             // CC-08: Date range ≤ 1 year
-            long daysBetween = ChronoUnit.DAYS.between(entity.getFromDate(), entity.getToDate());
+            long daysBetween = ChronoUnit.DAYS.between(fromDate, toDate);
             if (daysBetween > MAX_DATE_RANGE_DAYS) {
                 throw new ValidationException("Date range cannot exceed 365 days", "VAL_006");
             }
@@ -0,0 +1,176 @@
+package com.company.ale.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-process cache bounded by entry count (least recently used entry evicted first)
+ * and by age (entries expire a fixed time after they were written).
+ *
+ * Values must be immutable: the same instance is handed to every caller. Loads run
+ * outside the lock, so two threads missing the same key may both load it; a load that
+ * overlaps a put or invalidate is returned to its caller but not stored, so a stale
+ * read can never overwrite a write-through value. Create instances through
+ * CacheRegistry so their statistics are exposed.
+ */
+public class BoundedCache<K, V> implements ManagedCache {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Bumped by every put / invalidate (guarded by lock)
+    private long writes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    BoundedCache(String name, int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache " + name + " needs a positive maximum size");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Cached value for the key, loading (and caching) it on a miss
+     * @param loader computes the value; must not return null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long writesBefore;
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(System.nanoTime())) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            misses.increment();
+            writesBefore = writes;
+        } finally {
+            lock.unlock();
+        }
+
+        V value = loader.apply(key);
+        lock.lock();
+        try {
+            if (writes == writesBefore) {
+                store(key, value);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * Store a value (write-through after the source of truth was updated)
+     */
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            writes++;
+            store(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            writes++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            writes++;
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return CacheStats.builder()
+            .name(name)
+            .size(size)
+            .maxSize(maxSize)
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .evictions(evictions.sum())
+            .expirations(expirations.sum())
+            .build();
+    }
+
+    // Caller holds the lock
+    private void store(K key, V value) {
+        long now = System.nanoTime();
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        // Over capacity: drop expired entries first, then the least recently used
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext() && entries.size() > maxSize) {
+            Entry<V> candidate = it.next().getValue();
+            if (candidate.isExpired(now)) {
+                it.remove();
+                expirations.increment();
+            }
+        }
+        it = entries.entrySet().iterator();
+        while (it.hasNext() && entries.size() > maxSize) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
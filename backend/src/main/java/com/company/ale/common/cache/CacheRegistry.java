@@ -0,0 +1,49 @@
+package com.company.ale.common.cache;
+
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the application's in-process caches and collects their statistics
+ * (exposed by GET /api/admin/caches)
+ */
+@Component
+public class CacheRegistry {
+
+    private final List<ManagedCache> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param name unique cache name, reported in the statistics
+     * @param maxSize entries kept before the least recently used is evicted
+     * @param ttl how long an entry is served after it was written
+     */
+    public <K, V> BoundedCache<K, V> create(String name, int maxSize, Duration ttl) {
+        return register(new BoundedCache<>(name, maxSize, ttl));
+    }
+
+    /**
+     * @param name unique cache name, reported in the statistics
+     * @param maxBytes off-heap byte budget
+     * @param blockSize allocation unit; each entry uses whole blocks
+     * @param maxEntryBytes larger values are not cached
+     */
+    public <K> OffHeapByteCache<K> createOffHeap(String name, long maxBytes, int blockSize, int maxEntryBytes) {
+        return register(new OffHeapByteCache<>(name, maxBytes, blockSize, maxEntryBytes));
+    }
+
+    public List<CacheStats> stats() {
+        return caches.stream().map(ManagedCache::stats).toList();
+    }
+
+    private <C extends ManagedCache> C register(C cache) {
+        synchronized (caches) {
+            if (caches.stream().anyMatch(existing -> existing.getName().equals(cache.getName()))) {
+                throw new IllegalStateException("Cache already registered: " + cache.getName());
+            }
+            caches.add(cache);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,40 @@
+package com.company.ale.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Point-in-time statistics of one cache
+ * evictions: entries dropped to respect the size / byte budget; expirations: entries
+ * dropped for age or because they no longer matched the current version
+ * maxSize applies to entry-bounded caches, usedBytes / maxBytes to byte-bounded ones
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CacheStats {
+
+    String name;
+
+    int size;
+
+    Integer maxSize;
+
+    Long usedBytes;
+
+    Long maxBytes;
+
+    long hits;
+
+    long misses;
+
+    long evictions;
+
+    long expirations;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.ale.common.cache;
+
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST Controller exposing in-process cache statistics
+ * Base path: /api/admin/caches
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational APIs")
+public class CacheStatsController {
+
+    private final CacheRegistry registry;
+    private final AuthorizationService authorizationService;
+
+    /**
+     * Hit / miss / eviction counters of every cache
+     * GET /api/admin/caches
+     */
+    @Operation(summary = "Get cache statistics",
+               description = "Size, hits, misses, evictions and expirations of each in-process cache since startup. Requires RULE_ADMIN.")
+    @GetMapping
+    public ResponseEntity<List<CacheStats>> getStats() {
+        authorizationService.checkPermission(RuleType.RULE_ADMIN);
+        return ResponseEntity.ok(registry.stats());
+    }
+}
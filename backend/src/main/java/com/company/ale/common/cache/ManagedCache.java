@@ -0,0 +1,11 @@
+package com.company.ale.common.cache;
+
+/**
+ * A cache created by CacheRegistry, reporting its statistics
+ */
+public interface ManagedCache {
+
+    String getName();
+
+    CacheStats stats();
+}
@@ -0,0 +1,335 @@
+package com.company.ale.common.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of serialized values held outside the Java heap, bounded by a byte budget
+ * (least recently used entry evicted first).
+ *
+ * The budget is carved into fixed-size blocks inside direct ByteBuffer slabs, which
+ * are allocated on first use and kept for the lifetime of the cache; an entry takes
+ * as many (not necessarily adjacent) blocks as its length needs. Every entry carries a
+ * tag chosen by the caller (compared with equals, typically identifying the source row
+ * and its version): a lookup with a different tag is a miss and drops the entry, so a
+ * stale value is never served even when an invalidation is missed.
+ *
+ * A hit is returned as a pinned Handle whose bytes are copied to the caller's stream
+ * outside the lock; an entry evicted or invalidated while pinned keeps its blocks until
+ * the last handle is closed, and eviction passes over pinned entries. A value loaded
+ * while its key was written or invalidated is not stored (see writeStamp(K)); the
+ * stamps are kept per stripe of keys, so writes to other keys rarely get in the way.
+ * Create instances through CacheRegistry so their statistics are exposed.
+ */
+public class OffHeapByteCache<K> implements ManagedCache {
+
+    private static final int SLAB_BYTES = 16 * 1024 * 1024;
+    private static final int TRANSFER_BYTES = 8 * 1024;
+    // Power of two; keys sharing a stripe share their write stamp
+    private static final int STAMP_STRIPES = 1024;
+
+    private final String name;
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxEntryBytes;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Slabs and the free block stack (guarded by lock); low block numbers are handed out first
+    private final ByteBuffer[] slabs;
+    private final int[] freeBlocks;
+    private int freeCount;
+    // Bumped by every put / invalidate of a key of the stripe (guarded by lock)
+    private final long[] stripeWrites = new long[STAMP_STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    OffHeapByteCache(String name, long maxBytes, int blockSize, int maxEntryBytes) {
+        if (blockSize <= 0 || blockSize > SLAB_BYTES) {
+            throw new IllegalArgumentException("Cache " + name + " needs a block size between 1 and " + SLAB_BYTES);
+        }
+        long totalBlocks = maxBytes / blockSize;
+        if (totalBlocks <= 0 || totalBlocks > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Cache " + name + " needs a byte budget of at least one block");
+        }
+        this.name = name;
+        this.blockSize = blockSize;
+        this.blocksPerSlab = SLAB_BYTES / blockSize;
+        this.maxEntryBytes = (int) Math.min(maxEntryBytes, totalBlocks * blockSize);
+        this.maxBytes = totalBlocks * blockSize;
+        this.slabs = new ByteBuffer[(int) ((totalBlocks + blocksPerSlab - 1) / blocksPerSlab)];
+        this.freeBlocks = new int[(int) totalBlocks];
+        for (int i = 0; i < freeBlocks.length; i++) {
+            freeBlocks[i] = freeBlocks.length - 1 - i;
+        }
+        this.freeCount = freeBlocks.length;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Pinned view of the cached bytes when the key is present with the given tag, else null
+     * The caller must close the handle (try-with-resources)
+     */
+    public Handle acquire(K key, Object tag) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.tag.equals(tag)) {
+                entry.pins++;
+                hits.increment();
+                return new Handle(entry);
+            }
+            if (entry != null) {
+                entries.remove(key);
+                detach(entry);
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marker to take before loading the value of a key: put() skips the value if the
+     * key (or another key of its stripe) was written or invalidated since
+     */
+    public long writeStamp(K key) {
+        lock.lock();
+        try {
+            return stripeWrites[stripe(key)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Store the bytes under the key, evicting least recently used entries to fit them
+     * Values above the maximum entry size, or that only pinned entries stand in the
+     * way of, are not stored (and then nothing is evicted).
+     * @param stamp writeStamp(key) taken before the value was loaded
+     * @return whether the value was stored
+     */
+    public boolean put(K key, Object tag, byte[] value, long stamp) {
+        if (value.length > maxEntryBytes) {
+            return false;
+        }
+        int needed = Math.max(1, (value.length + blockSize - 1) / blockSize);
+        lock.lock();
+        try {
+            int stripe = stripe(key);
+            if (stripeWrites[stripe] != stamp) {
+                return false;
+            }
+            stripeWrites[stripe]++;
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                detach(previous);
+            }
+
+            // Least recently used unpinned entries, until they free enough blocks; a pinned
+            // entry keeps its blocks until its handles are closed, so evicting it frees nothing
+            List<K> victims = new ArrayList<>();
+            int reclaimable = freeCount;
+            Iterator<Map.Entry<K, Entry>> eldest = entries.entrySet().iterator();
+            while (reclaimable < needed && eldest.hasNext()) {
+                Map.Entry<K, Entry> candidate = eldest.next();
+                if (candidate.getValue().pins == 0) {
+                    victims.add(candidate.getKey());
+                    reclaimable += candidate.getValue().blocks.length;
+                }
+            }
+            if (reclaimable < needed) {
+                return false;
+            }
+            for (K victim : victims) {
+                detach(entries.remove(victim));
+                evictions.increment();
+            }
+
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+                int offset = i * blockSize;
+                slab(blocks[i]).put(position(blocks[i]), value, offset, Math.min(blockSize, value.length - offset));
+            }
+            entries.put(key, new Entry(blocks, value.length, tag));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            stripeWrites[stripe(key)]++;
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                detach(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (int i = 0; i < stripeWrites.length; i++) {
+                stripeWrites[i]++;
+            }
+            entries.values().forEach(this::detach);
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        int size;
+        long usedBytes;
+        lock.lock();
+        try {
+            size = entries.size();
+            usedBytes = (long) (freeBlocks.length - freeCount) * blockSize;
+        } finally {
+            lock.unlock();
+        }
+        return CacheStats.builder()
+            .name(name)
+            .size(size)
+            .usedBytes(usedBytes)
+            .maxBytes(maxBytes)
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .evictions(evictions.sum())
+            .expirations(expirations.sum())
+            .build();
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    // Removed from the map: free the blocks now, or when the last handle is closed
+    private void detach(Entry entry) {
+        entry.detached = true;
+        if (entry.pins == 0) {
+            release(entry);
+        }
+    }
+
+    private void release(Entry entry) {
+        for (int block : entry.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    private void unpin(Entry entry) {
+        lock.lock();
+        try {
+            if (--entry.pins == 0 && entry.detached) {
+                release(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Allocates the slab on first use (under lock); a slab is never replaced afterwards
+    private ByteBuffer slab(int block) {
+        int index = block / blocksPerSlab;
+        if (slabs[index] == null) {
+            int blocks = Math.min(blocksPerSlab, freeBlocks.length - index * blocksPerSlab);
+            slabs[index] = ByteBuffer.allocateDirect(blocks * blockSize);
+        }
+        return slabs[index];
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSlab) * blockSize;
+    }
+
+    /**
+     * Pinned cache entry; its blocks stay allocated until close()
+     */
+    public final class Handle implements AutoCloseable {
+
+        private final Entry entry;
+        private boolean closed;
+
+        private Handle(Entry entry) {
+            this.entry = entry;
+        }
+
+        public int length() {
+            return entry.length;
+        }
+
+        /**
+         * Copy the cached bytes to the stream, one block at a time
+         * Absolute reads leave the shared slab's position untouched, so concurrent
+         * handles need no lock.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            byte[] transfer = new byte[Math.min(entry.length, Math.min(blockSize, TRANSFER_BYTES))];
+            int remaining = entry.length;
+            for (int block : entry.blocks) {
+                ByteBuffer slab = slabs[block / blocksPerSlab];
+                int position = position(block);
+                int inBlock = Math.min(blockSize, remaining);
+                remaining -= inBlock;
+                while (inBlock > 0) {
+                    int chunk = Math.min(inBlock, transfer.length);
+                    slab.get(position, transfer, 0, chunk);
+                    out.write(transfer, 0, chunk);
+                    position += chunk;
+                    inBlock -= chunk;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                unpin(entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final int[] blocks;
+        final int length;
+        final Object tag;
+        // Guarded by lock
+        int pins;
+        boolean detached;
+
+        Entry(int[] blocks, int length, Object tag) {
+            this.blocks = blocks;
+            this.length = length;
+            this.tag = tag;
+        }
+    }
+}
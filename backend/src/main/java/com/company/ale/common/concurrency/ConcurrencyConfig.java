@@ -0,0 +1,52 @@
+package com.company.ale.common.concurrency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Connection limiter for the virtual-thread execution mode
+ *
+ * Request handling, @Async and @Scheduled work run on virtual threads when
+ * spring.threads.virtual.enabled=true (see application-virtual.properties). The
+ * limiter then sits in front of the connection pool: every DataSource bean is wrapped
+ * in a ConnectionLimitingDataSource.
+ *
+ * Configuration is read from application.properties:
+ * - ale.concurrency.db-limiter.enabled: Wrap the DataSource (default: false)
+ * - ale.concurrency.db-limiter.permits: Concurrent connections, normally the pool size
+ *   (default: spring.datasource.hikari.maximum-pool-size, else 10)
+ * - ale.concurrency.db-limiter.acquire-timeout: Longest wait for a permit (default: PT5S)
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "ale.concurrency.db-limiter.enabled", havingValue = "true")
+    public ConnectionLimiter connectionLimiter(
+            @Value("${ale.concurrency.db-limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${ale.concurrency.db-limiter.acquire-timeout:PT5S}") Duration acquireTimeout) {
+        return new ConnectionLimiter(permits, acquireTimeout);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<ConnectionLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    ConnectionLimiter connectionLimiter = limiter.getIfAvailable();
+                    if (connectionLimiter != null) {
+                        return new ConnectionLimitingDataSource(dataSource, connectionLimiter);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.ale.common.concurrency;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+/**
+ * Request execution mode, connection limiter and pinning statistics
+ * The connection limiter fields are absent when the limiter is disabled
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConcurrencyStats {
+
+    boolean virtualThreads;
+
+    Integer connectionPermits;
+
+    Integer availablePermits;
+
+    Integer waitingThreads;
+
+    Long acquiredConnections;
+
+    Long rejectedConnections;
+
+    boolean pinningMonitored;
+
+    long pinnedEvents;
+
+    long untrackedPinnedEvents;
+
+    List<PinnedSiteStats> pinnedSites;
+}
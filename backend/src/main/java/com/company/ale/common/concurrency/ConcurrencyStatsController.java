@@ -0,0 +1,57 @@
+package com.company.ale.common.concurrency;
+
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller exposing the request execution mode and its diagnostics
+ * Base path: /api/admin/concurrency
+ */
+@RestController
+@RequestMapping("/api/admin/concurrency")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational APIs")
+public class ConcurrencyStatsController {
+
+    private final ObjectProvider<ConnectionLimiter> connectionLimiter;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final AuthorizationService authorizationService;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Thread mode, connection limiter counters and pinned virtual thread sites
+     * GET /api/admin/concurrency
+     */
+    @Operation(summary = "Get concurrency statistics",
+               description = "Whether requests run on virtual threads, connection limiter usage and carrier-thread pinning sites since startup. Requires RULE_ADMIN.")
+    @GetMapping
+    public ResponseEntity<ConcurrencyStats> getStats() {
+        authorizationService.checkPermission(RuleType.RULE_ADMIN);
+        ConcurrencyStats.ConcurrencyStatsBuilder stats = ConcurrencyStats.builder()
+            .virtualThreads(virtualThreads)
+            .pinningMonitored(pinningMonitor.isEnabled())
+            .pinnedEvents(pinningMonitor.getEvents())
+            .untrackedPinnedEvents(pinningMonitor.getUntracked())
+            .pinnedSites(pinningMonitor.sites());
+        ConnectionLimiter limiter = connectionLimiter.getIfAvailable();
+        if (limiter != null) {
+            stats.connectionPermits(limiter.getPermits())
+                .availablePermits(limiter.getAvailablePermits())
+                .waitingThreads(limiter.getWaitingThreads())
+                .acquiredConnections(limiter.getAcquired())
+                .rejectedConnections(limiter.getRejected());
+        }
+        return ResponseEntity.ok(stats.build());
+    }
+}
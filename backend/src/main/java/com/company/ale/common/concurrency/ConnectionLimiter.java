@@ -0,0 +1,78 @@
+package com.company.ale.common.concurrency;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fair semaphore in front of the connection pool.
+ *
+ * With request handling on virtual threads the Tomcat thread pool no longer bounds
+ * how many requests run at once, so the connection pool becomes the real concurrency
+ * limit. Threads wanting a connection queue here in arrival order, holding no pool
+ * resources, and give up after the acquire timeout with the same exception type as a
+ * pool timeout (mapped to 429 by GlobalExceptionHandler). Permits are returned when
+ * the connection is closed (see ConnectionLimitingDataSource).
+ */
+public class ConnectionLimiter {
+
+    private final int permits;
+    private final long acquireTimeoutNanos;
+    private final Semaphore semaphore;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionLimiter(int permits, Duration acquireTimeout) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Connection limiter needs a positive number of permits");
+        }
+        this.permits = permits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * Wait (up to the acquire timeout) for a permit
+     * @throws SQLTransientConnectionException if none became available in time
+     */
+    public void acquire() throws SQLTransientConnectionException {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("No database connection available within "
+                    + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms (" + permits + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        acquired.increment();
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return semaphore.getQueueLength();
+    }
+
+    public long getAcquired() {
+        return acquired.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
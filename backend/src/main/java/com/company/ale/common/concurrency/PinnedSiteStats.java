@@ -0,0 +1,18 @@
+package com.company.ale.common.concurrency;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Pinned virtual thread waits recorded at one code location
+ */
+@Value
+@Builder
+public class PinnedSiteStats {
+
+    String site;
+
+    long count;
+
+    long maxDurationMs;
+}
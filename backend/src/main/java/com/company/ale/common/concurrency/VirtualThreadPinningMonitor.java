@@ -0,0 +1,151 @@
+package com.company.ale.common.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier thread.
+ *
+ * A virtual thread that blocks inside a synchronized block or a native frame cannot
+ * unmount, so it holds its carrier (one of a few platform threads) for the whole wait;
+ * a JDBC call under a monitor can stall every request this way. The JDK records each
+ * such wait longer than the threshold as a jdk.VirtualThreadPinned JFR event: this
+ * component streams them in-process, groups them by the innermost application frame
+ * (else the top frame), logs the stack the first time a site is seen and keeps
+ * per-site counts for GET /api/admin/concurrency.
+ *
+ * Configuration is read from application.properties:
+ * - ale.concurrency.pinning.enabled: Stream pinning events (default: false)
+ * - ale.concurrency.pinning.threshold: Shortest pinned wait recorded (default: PT0.02S)
+ * - ale.concurrency.pinning.max-sites: Distinct sites tracked, others are only counted (default: 100)
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.company.ale.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final int maxSites;
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${ale.concurrency.pinning.enabled:false}") boolean enabled,
+                                       @Value("${ale.concurrency.pinning.threshold:PT0.02S}") Duration threshold,
+                                       @Value("${ale.concurrency.pinning.max-sites:100}") int maxSites) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.maxSites = maxSites;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    /**
+     * Tracked sites, most frequent first
+     */
+    public List<PinnedSiteStats> sites() {
+        return sites.entrySet().stream()
+            .map(entry -> PinnedSiteStats.builder()
+                .site(entry.getKey())
+                .count(entry.getValue().count.sum())
+                .maxDurationMs(entry.getValue().maxNanos.get() / 1_000_000)
+                .build())
+            .sorted(Comparator.comparingLong(PinnedSiteStats::getCount).reversed())
+            .toList();
+    }
+
+    public long getUntracked() {
+        return untracked.sum();
+    }
+
+    private void record(RecordedEvent event) {
+        events.increment();
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String key = siteOf(frames);
+        Site site = sites.get(key);
+        if (site == null) {
+            if (sites.size() >= maxSites) {
+                untracked.increment();
+                return;
+            }
+            Site created = new Site();
+            site = sites.putIfAbsent(key, created);
+            if (site == null) {
+                site = created;
+                log.warn("Virtual thread pinned for {} ms at {}:\n{}", event.getDuration().toMillis(), key, describe(frames));
+            }
+        }
+        site.count.increment();
+        site.maxNanos.accumulateAndGet(event.getDuration().toNanos(), Math::max);
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .or(() -> frames.stream().findFirst())
+            .map(VirtualThreadPinningMonitor::format)
+            .orElse("unknown");
+    }
+
+    private static String describe(List<RecordedFrame> frames) {
+        return frames.stream()
+            .limit(LOGGED_FRAMES)
+            .map(frame -> "    at " + format(frame))
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class Site {
+        final LongAdder count = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+}
@@ -74,7 +74,8 @@ public class CorsConfig {
             "X-Correlation-Id",
             "X-Total-Count",
             "X-Page-Number",
-            "X-Page-Size"
+            "X-Page-Size",
+            "ETag"
         ));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,12 @@
+package com.company.ale.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background tasks (e.g. counter reconciliation)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
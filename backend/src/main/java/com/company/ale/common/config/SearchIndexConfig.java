@@ -0,0 +1,42 @@
+package com.company.ale.common.config;
+
+import com.company.ale.alternativedata.domain.AlternativeData;
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.common.filter.NgramIndex;
+import com.company.ale.documenttracker.domain.DocumentTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * N-gram indexes for the '%value%' search filters.
+ *
+ * Each bean lists the CONTAINS filter attributes of one Specification; the entity
+ * must also declare @EntityListeners(NgramIndexListener.class).
+ *
+ * Configuration is read from application.properties:
+ * - ale.search.ngram.enabled: Use the indexes to narrow substring filters (default: true)
+ * - ale.search.ngram.max-candidates: Above this many candidate ids the filter runs as a plain LIKE (default: 2000)
+ */
+@Configuration
+public class SearchIndexConfig {
+
+    @Value("${ale.search.ngram.max-candidates:2000}")
+    private int maxCandidates;
+
+    @Bean
+    public NgramIndex capitalCallNgramIndex() {
+        return new NgramIndex(CapitalCall.class, maxCandidates, "aleBatchId", "toeReference", "clientName");
+    }
+
+    @Bean
+    public NgramIndex documentTrackerNgramIndex() {
+        return new NgramIndex(DocumentTracker.class, maxCandidates, "genId");
+    }
+
+    @Bean
+    public NgramIndex alternativeDataNgramIndex() {
+        return new NgramIndex(AlternativeData.class, maxCandidates,
+            "clientName", "accountNumber", "fundFamily", "dataSource");
+    }
+}
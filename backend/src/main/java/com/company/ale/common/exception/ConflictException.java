@@ -0,0 +1,19 @@
+package com.company.ale.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a write loses a race with a concurrent change
+ * (the row's version or state moved on after it was read)
+ * HTTP Status: 409 Conflict
+ */
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final String errorCode;
+
+    public ConflictException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
@@ -1,16 +1,22 @@
 package com.company.ale.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.slf4j.MDC;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import jakarta.servlet.http.HttpServletRequest;
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 
 // Global exception handler for all REST controllers
-// Handles ValidationException, EntityNotFoundException, AuthorizationException
+// Handles ValidationException, EntityNotFoundException, AuthorizationException, ConflictException, TooManyRequestsException
 // Returns ErrorResponse with proper HTTP status codes
 @RestControllerAdvice
 @Slf4j
@@ -67,6 +73,52 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
     }
 
+    // Handle ConflictException - return 409 with error code
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(
+            ConflictException ex, HttpServletRequest request) {
+        log.warn("Conflict: {}", ex.getMessage());
+        return conflict(ex.getErrorCode(), ex.getMessage(), request);
+    }
+
+    // Handle optimistic lock failures (@Version) - return 409 instead of 500
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Optimistic lock failure: {}", ex.getMessage());
+        return conflict("STALE_VERSION", "The record was modified by another user, reload and retry", request);
+    }
+
+    // Handle TooManyRequestsException - return 429 with Retry-After
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        log.warn("Request rejected: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .errorCode("TOO_MANY_REQUESTS")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .correlationId(MDC.get("correlationId"))
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    // Handle no database connection within the pool / ConnectionLimiter timeout - return 429 with Retry-After
+    // Other connection failures are server errors
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+            NestedRuntimeException ex, HttpServletRequest request) {
+        if (ex.getMostSpecificCause() instanceof SQLTransientConnectionException) {
+            return handleTooManyRequests(new TooManyRequestsException("Database is busy, please retry later", 1), request);
+        }
+        return handleGeneric(ex, request);
+    }
+
     // Handle generic exceptions - return 500
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(
@@ -83,4 +135,17 @@ public class GlobalExceptionHandler {
                 .build();
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private ResponseEntity<ErrorResponse> conflict(String errorCode, String message, HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .errorCode(errorCode)
+                .message(message)
+                .path(request.getRequestURI())
+                .correlationId(MDC.get("correlationId"))
+                .build();
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
 }
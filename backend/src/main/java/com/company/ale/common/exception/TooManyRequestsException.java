@@ -0,0 +1,19 @@
+package com.company.ale.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request is rejected because a bounded resource
+ * (queue, pool) is saturated; the client should retry after retryAfterSeconds
+ * HTTP Status: 429 Too Many Requests
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
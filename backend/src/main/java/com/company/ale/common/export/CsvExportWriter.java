@@ -0,0 +1,82 @@
+package com.company.ale.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV writer. Output goes through a fixed-size buffer, so bytes are
+ * handed to the response in chunks of bufferSize as rows are written.
+ *
+ * Text cells starting with a formula trigger (= + - @ tab CR) are prefixed with a
+ * single quote, so spreadsheet applications show them as text instead of
+ * evaluating them (CSV injection). Numbers and dates are written unchanged.
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public CsvExportWriter(OutputStream out, int bufferSize) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) throws IOException {
+        writeLine(headers);
+    }
+
+    @Override
+    public void writeRow(List<Object> values) throws IOException {
+        writeLine(values);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            String text = ExportValues.format(value);
+            writeValue(value instanceof CharSequence ? neutralizeFormula(text) : text);
+        }
+        writer.write("\r\n");
+    }
+
+    static String neutralizeFormula(String text) {
+        return !text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+    }
+
+    private void writeValue(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.ale.common.export;
+
+import java.util.function.Function;
+
+/**
+ * One exported column: header label and how to read its value from a row
+ */
+public final class ExportColumn<R> {
+
+    private final String header;
+    private final Function<R, Object> value;
+
+    private ExportColumn(String header, Function<R, Object> value) {
+        this.header = header;
+        this.value = value;
+    }
+
+    public static <R> ExportColumn<R> of(String header, Function<R, Object> value) {
+        return new ExportColumn<>(header, value);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public Object valueOf(R row) {
+        return value.apply(row);
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.ale.common.export;
+
+/**
+ * Modules whose search results can be exported
+ */
+public enum ExportModule {
+    DOCUMENT_TRACKER,
+    CAPITAL_CALL,
+    ALTERNATIVE_DATA
+}
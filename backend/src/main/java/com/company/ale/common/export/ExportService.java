@@ -0,0 +1,115 @@
+package com.company.ale.common.export;
+
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.pagination.SearchExecutor;
+import com.company.ale.common.pagination.SearchProjection;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams search results into an export file with constant memory:
+ * rows are read through a forward-only cursor (fetch-size batches), written one
+ * by one to a fixed-size output buffer, and the persistence context is cleared
+ * every chunk so nothing accumulates for the lifetime of the export.
+ *
+ * Configuration is read from application.properties:
+ * - ale.export.fetch-size: JDBC fetch size of the export cursor (default: 1000)
+ * - ale.export.chunk-rows: Rows between persistence context clears and flushes (default: 1000)
+ * - ale.export.buffer-bytes: Output buffer size (default: 65536)
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private final SearchExecutor searchExecutor;
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    private final int chunkRows;
+    private final int bufferBytes;
+
+    public ExportService(SearchExecutor searchExecutor,
+                         EntityManager entityManager,
+                         @Value("${ale.export.fetch-size:1000}") int fetchSize,
+                         @Value("${ale.export.chunk-rows:1000}") int chunkRows,
+                         @Value("${ale.export.buffer-bytes:65536}") int bufferBytes) {
+        this.searchExecutor = searchExecutor;
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+        this.chunkRows = chunkRows;
+        this.bufferBytes = bufferBytes;
+    }
+
+    /**
+     * Resolve the writer for a format; call before streaming starts so an
+     * unsupported format is still reported as a normal 400 response
+     */
+    public Function<OutputStream, ExportWriter> writerFactory(ExportFormat format) {
+        switch (format) {
+            case CSV:
+                return out -> new CsvExportWriter(out, bufferBytes);
+            case XLSX:
+                return out -> new XlsxExportWriter(out, bufferBytes);
+            default:
+                throw new ValidationException("Unsupported export format: " + format, "VAL_013");
+        }
+    }
+
+    /**
+     * Write every row matching the specification
+     * @param progress receives the running row count after every chunk
+     * @return number of data rows written
+     */
+    @Transactional(readOnly = true)
+    public <T, R> long export(Class<T> entityType,
+                              Specification<T> spec,
+                              Sort sort,
+                              SearchProjection<R> projection,
+                              List<ExportColumn<R>> columns,
+                              ExportWriter writer,
+                              LongConsumer progress) throws IOException {
+        List<String> headers = new ArrayList<>(columns.size());
+        for (ExportColumn<R> column : columns) {
+            headers.add(column.getHeader());
+        }
+        writer.writeHeader(headers);
+        // Send the header right away so the download starts before the first chunk
+        writer.flush();
+
+        long rows = 0;
+        try (Stream<R> stream = searchExecutor.stream(entityType, spec, sort, projection, fetchSize)) {
+            Iterator<R> iterator = stream.iterator();
+            List<Object> values = new ArrayList<>(columns.size());
+            while (iterator.hasNext()) {
+                R row = iterator.next();
+                values.clear();
+                for (ExportColumn<R> column : columns) {
+                    values.add(column.valueOf(row));
+                }
+                writer.writeRow(values);
+
+                if (++rows % chunkRows == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                    progress.accept(rows);
+                }
+            }
+        }
+        writer.finish();
+        progress.accept(rows);
+        log.info("Exported {} {} rows", rows, entityType.getSimpleName());
+        return rows;
+    }
+}
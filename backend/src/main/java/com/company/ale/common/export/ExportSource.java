@@ -0,0 +1,23 @@
+package com.company.ale.common.export;
+
+import com.company.ale.common.pagination.SearchRequest;
+
+/**
+ * A module's export: binds a search request to the rows and columns to write.
+ * Implemented once per module and looked up by ExportModule.
+ */
+public interface ExportSource {
+
+    ExportModule getModule();
+
+    /**
+     * File name (without extension) offered for downloads
+     */
+    String getFileName();
+
+    /**
+     * Check RULE_EXPORT and validate/bind the search filters on the calling
+     * (request) thread; the returned task can then run on any thread
+     */
+    ExportTask prepare(SearchRequest request);
+}
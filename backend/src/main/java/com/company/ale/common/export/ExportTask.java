@@ -0,0 +1,17 @@
+package com.company.ale.common.export;
+
+import java.io.IOException;
+import java.util.function.LongConsumer;
+
+/**
+ * A prepared export, ready to write its rows
+ */
+@FunctionalInterface
+public interface ExportTask {
+
+    /**
+     * @param progress receives the running row count while writing
+     * @return number of data rows written
+     */
+    long writeTo(ExportWriter writer, LongConsumer progress) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.company.ale.common.export;
+
+/**
+ * Text form of exported cell values (ISO dates, enum names, empty for null)
+ */
+final class ExportValues {
+
+    private ExportValues() {
+    }
+
+    static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.ale.common.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Row-by-row writer for one export file; implementations must not buffer
+ * more than a fixed amount of output regardless of the number of rows
+ */
+public interface ExportWriter {
+
+    void writeHeader(List<String> headers) throws IOException;
+
+    void writeRow(List<Object> values) throws IOException;
+
+    /**
+     * Push buffered bytes to the underlying stream
+     */
+    void flush() throws IOException;
+
+    /**
+     * Complete the file (trailers, footers) and flush; does not close the stream
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,31 @@
+package com.company.ale.common.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.Set;
+
+/**
+ * A cached FilterPlan together with the typed values of one request
+ * and, when an NgramIndex narrowed its substring filters, the candidate ids
+ */
+public final class BoundFilter<T> {
+
+    private final FilterPlan<T> plan;
+    private final Object[] values;
+    private final Set<Long> candidates;
+
+    BoundFilter(FilterPlan<T> plan, Object[] values, Set<Long> candidates) {
+        this.plan = plan;
+        this.values = values;
+        this.candidates = candidates;
+    }
+
+    public FilterPlan<T> getPlan() {
+        return plan;
+    }
+
+    public Predicate toPredicate(Root<T> root, CriteriaBuilder cb) {
+        return plan.toPredicate(root, cb, values, candidates);
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.ale.common.filter;
+
+import lombok.Getter;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Definition of one supported search filter: request key, entity attribute,
+ * operator and the parser that turns the raw JSON value into a typed value
+ */
+@Getter
+public final class FilterField {
+
+    private final String key;
+    private final String attribute;
+    private final FilterOperator operator;
+    private final Function<String, Object> parser;
+
+    private FilterField(String key, String attribute, FilterOperator operator, Function<String, Object> parser) {
+        this.key = key;
+        this.attribute = attribute;
+        this.operator = operator;
+        this.parser = parser;
+    }
+
+    public static FilterField text(String key, FilterOperator operator) {
+        return new FilterField(key, key, operator, value -> value);
+    }
+
+    public static FilterField date(String key, FilterOperator operator) {
+        return new FilterField(key, key, operator, LocalDate::parse);
+    }
+
+    public static <E extends Enum<E>> FilterField enumValue(String key, Class<E> type) {
+        return new FilterField(key, key, FilterOperator.EQUALS, value -> Enum.valueOf(type, value));
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.ale.common.filter;
+
+import java.util.Locale;
+
+/**
+ * Comparison applied by a compiled filter field
+ */
+public enum FilterOperator {
+    CONTAINS,
+    CONTAINS_IGNORE_CASE,
+    EQUALS,
+    GREATER_OR_EQUAL,
+    LESS_OR_EQUAL;
+
+    /**
+     * Turn a parsed value into the bind value for this operator
+     * (LIKE patterns are built once here instead of inside toPredicate)
+     */
+    public Object prepare(Object value) {
+        switch (this) {
+            case CONTAINS:
+                return "%" + value + "%";
+            case CONTAINS_IGNORE_CASE:
+                return "%" + value.toString().toLowerCase(Locale.ROOT) + "%";
+            default:
+                return value;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.company.ale.common.filter;
+
+import com.company.ale.common.exception.ValidationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled plan for one filter shape (the set of active filter keys).
+ * Field lookup, operator choice and ordering are resolved once per shape, so
+ * every request with the same shape produces the same predicate tree and
+ * therefore the same SQL string with only the bind values changing.
+ */
+public final class FilterPlan<T> {
+
+    private final String shape;
+    private final List<FilterField> fields;
+
+    FilterPlan(String shape, List<FilterField> fields) {
+        this.shape = shape;
+        this.fields = List.copyOf(fields);
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    /**
+     * Parse and validate the request values for this shape
+     * @throws ValidationException (VAL_012) when a value cannot be converted
+     */
+    Object[] bind(Map<String, Object> filters) {
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            FilterField field = fields.get(i);
+            String raw = filters.get(field.getKey()).toString();
+            try {
+                values[i] = field.getOperator().prepare(field.getParser().apply(raw));
+            } catch (RuntimeException e) {
+                throw new ValidationException(
+                    "Invalid value for filter '" + field.getKey() + "': " + raw, "VAL_012", e);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Resolve the substring filters covered by the index to the intersection of
+     * their candidate ids; null when no filter could be narrowed
+     */
+    Set<Long> candidates(Map<String, Object> filters, NgramIndex index) {
+        Set<Long> result = null;
+        for (FilterField field : fields) {
+            FilterOperator operator = field.getOperator();
+            if ((operator != FilterOperator.CONTAINS && operator != FilterOperator.CONTAINS_IGNORE_CASE)
+                    || !index.covers(field.getAttribute())) {
+                continue;
+            }
+            Set<Long> ids = index.candidates(field.getAttribute(), filters.get(field.getKey()).toString());
+            if (ids == null) {
+                continue;
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Build the predicate for already bound values, restricted to the index
+     * candidates when there are any (the LIKE predicates still apply)
+     */
+    Predicate toPredicate(Root<T> root, CriteriaBuilder cb, Object[] values, Set<Long> candidates) {
+        if (candidates != null && candidates.isEmpty()) {
+            return cb.disjunction();
+        }
+        if (fields.isEmpty()) {
+            return cb.conjunction();
+        }
+
+        Predicate[] predicates = new Predicate[fields.size() + (candidates != null ? 1 : 0)];
+        for (int i = 0; i < fields.size(); i++) {
+            predicates[i] = toPredicate(root, cb, fields.get(i), values[i]);
+        }
+        if (candidates != null) {
+            predicates[fields.size()] = root.get("id").in(candidates);
+        }
+        return cb.and(predicates);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate toPredicate(Root<T> root, CriteriaBuilder cb, FilterField field, Object value) {
+        String attribute = field.getAttribute();
+        switch (field.getOperator()) {
+            case CONTAINS:
+                return cb.like(root.<String>get(attribute), (String) value);
+            case CONTAINS_IGNORE_CASE:
+                return cb.like(cb.lower(root.<String>get(attribute)), (String) value);
+            case GREATER_OR_EQUAL:
+                return cb.greaterThanOrEqualTo(root.<Comparable<Object>>get(attribute), (Comparable<Object>) value);
+            case LESS_OR_EQUAL:
+                return cb.lessThanOrEqualTo(root.<Comparable<Object>>get(attribute), (Comparable<Object>) value);
+            case EQUALS:
+            default:
+                return cb.equal(root.get(attribute), value);
+        }
+    }
+}
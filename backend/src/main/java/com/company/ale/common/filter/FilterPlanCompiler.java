@@ -0,0 +1,69 @@
+package com.company.ale.common.filter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiles search filter maps into cached FilterPlans, one per filter shape.
+ *
+ * Each Specification class owns a static compiler describing its supported
+ * fields. Unknown keys, null values and blank strings are not part of the
+ * shape, so the number of cached plans is bounded by the field combinations.
+ */
+public final class FilterPlanCompiler<T> {
+
+    private final Map<String, FilterField> fields;
+    private final ConcurrentMap<String, FilterPlan<T>> plans = new ConcurrentHashMap<>();
+
+    private FilterPlanCompiler(Map<String, FilterField> fields) {
+        this.fields = fields;
+    }
+
+    public static <T> FilterPlanCompiler<T> of(FilterField... fields) {
+        Map<String, FilterField> byKey = new LinkedHashMap<>();
+        for (FilterField field : fields) {
+            byKey.put(field.getKey(), field);
+        }
+        return new FilterPlanCompiler<>(byKey);
+    }
+
+    /**
+     * Resolve (or compile) the plan for the request filters and bind their values
+     */
+    public BoundFilter<T> bind(Map<String, Object> filters) {
+        return bind(filters, null);
+    }
+
+    /**
+     * Same as bind(filters), additionally resolving substring filters through the index
+     * @param index n-gram index of the entity, or null to use plain LIKE predicates
+     */
+    public BoundFilter<T> bind(Map<String, Object> filters, NgramIndex index) {
+        List<FilterField> active = new ArrayList<>();
+        StringBuilder shape = new StringBuilder();
+
+        // Iterate the field registry, not the request map, so the shape is order independent
+        if (filters != null && !filters.isEmpty()) {
+            for (FilterField field : fields.values()) {
+                Object value = filters.get(field.getKey());
+                if (value == null || (value instanceof String str && str.isBlank())) {
+                    continue;
+                }
+                active.add(field);
+                shape.append(field.getKey()).append(':').append(field.getOperator()).append(';');
+            }
+        }
+
+        FilterPlan<T> plan = plans.computeIfAbsent(shape.toString(), key -> new FilterPlan<>(key, active));
+        Object[] values = plan.bind(filters);
+        return new BoundFilter<>(plan, values, index != null ? plan.candidates(filters, index) : null);
+    }
+
+    public int cachedPlanCount() {
+        return plans.size();
+    }
+}
@@ -0,0 +1,190 @@
+package com.company.ale.common.filter;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory trigram inverted index over the text attributes of one entity type,
+ * used to turn '%value%' LIKE filters into an id candidate set.
+ *
+ * The index only ever has to be a superset of the matching rows: the LIKE
+ * predicate still runs in the database against the candidates. Writes therefore
+ * add grams eagerly (add) and only remove stale grams once a change is committed
+ * (put / remove), so a rolled back transaction can leave extra candidates but
+ * never hide a row.
+ */
+public final class NgramIndex {
+
+    private static final int GRAM = 3;
+
+    private final Class<?> entityType;
+    private final List<String> attributes;
+    private final int maxCandidates;
+
+    // Per attribute: gram -> ids whose value contains it
+    private final List<ConcurrentMap<String, Set<Long>>> postings;
+    // Committed values per id, used to drop stale grams on update/delete
+    private final ConcurrentMap<Long, String[]> indexed = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public NgramIndex(Class<?> entityType, int maxCandidates, String... attributes) {
+        this.entityType = entityType;
+        this.attributes = List.of(attributes);
+        this.maxCandidates = maxCandidates;
+        this.postings = new ArrayList<>(attributes.length);
+        for (int i = 0; i < attributes.length; i++) {
+            postings.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    public boolean covers(String attribute) {
+        return attributes.contains(attribute);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Called once the initial load has completed; before that no filter is narrowed
+     */
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Id and indexed attribute values of an entity instance
+     */
+    public Long idOf(Object entity) {
+        return (Long) PropertyAccessorFactory.forBeanPropertyAccess(entity).getPropertyValue("id");
+    }
+
+    public String[] valuesOf(Object entity) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        String[] values = new String[attributes.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = wrapper.getPropertyValue(attributes.get(i));
+            values[i] = value != null ? value.toString() : null;
+        }
+        return values;
+    }
+
+    /**
+     * Add the grams of a (possibly uncommitted) value without removing anything
+     */
+    public synchronized void add(Long id, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            for (String gram : grams(values[i])) {
+                postings.get(i).computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Record the committed values of a row, dropping grams of its previous values
+     */
+    public synchronized void put(Long id, String[] values) {
+        add(id, values);
+        String[] previous = indexed.put(id, values);
+        if (previous != null) {
+            unlink(id, previous, values);
+        }
+    }
+
+    /**
+     * Initial load: skip rows already (re)indexed by a concurrent write
+     */
+    public synchronized void load(Long id, String[] values) {
+        if (!indexed.containsKey(id)) {
+            put(id, values);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String[] previous = indexed.remove(id);
+        if (previous != null) {
+            unlink(id, previous, new String[previous.length]);
+        }
+    }
+
+    /**
+     * Ids whose attribute may contain the needle (case-insensitive), or null when
+     * the index cannot narrow the search: not loaded yet, needle shorter than a
+     * gram, needle with LIKE wildcards (% or _, which the grams would take
+     * literally), or more candidates than an id list is worth
+     */
+    public Set<Long> candidates(String attribute, String needle) {
+        int position = attributes.indexOf(attribute);
+        if (!ready || position < 0 || needle == null || needle.length() < GRAM
+                || needle.indexOf('%') >= 0 || needle.indexOf('_') >= 0) {
+            return null;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> ids = postings.get(position).get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return Collections.emptySet();
+            }
+            lists.add(ids);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result.size() > maxCandidates ? null : result;
+    }
+
+    private void unlink(Long id, String[] previous, String[] current) {
+        for (int i = 0; i < previous.length; i++) {
+            Set<String> keep = grams(current[i]);
+            for (String gram : grams(previous[i])) {
+                if (keep.contains(gram)) {
+                    continue;
+                }
+                Set<Long> ids = postings.get(i).get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.get(i).remove(gram, ids);
+                    }
+                }
+            }
+        }
+    }
+
+    static Set<String> grams(String value) {
+        if (value == null || value.length() < GRAM) {
+            return Collections.emptySet();
+        }
+        String text = value.toLowerCase(Locale.ROOT);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,62 @@
+package com.company.ale.common.filter;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the NgramIndex of an entity in step with inserts, updates and deletes.
+ * Register with @EntityListeners on entities that have an index bean.
+ *
+ * New grams are added right away; stale grams are dropped only after commit, so
+ * the index stays a superset of the committed data (see NgramIndex).
+ * Bulk JPQL/SQL updates bypass entity listeners and must not touch indexed columns.
+ */
+@Component
+public class NgramIndexListener {
+
+    private final NgramIndexRegistry registry;
+
+    public NgramIndexListener(NgramIndexRegistry registry) {
+        this.registry = registry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Object entity) {
+        NgramIndex index = registry.forEntity(entity.getClass());
+        if (index == null) {
+            return;
+        }
+        Long id = index.idOf(entity);
+        String[] values = index.valuesOf(entity);
+        index.add(id, values);
+        afterCommit(() -> index.put(id, values));
+    }
+
+    @PostRemove
+    public void afterRemove(Object entity) {
+        NgramIndex index = registry.forEntity(entity.getClass());
+        if (index == null) {
+            return;
+        }
+        Long id = index.idOf(entity);
+        afterCommit(() -> index.remove(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
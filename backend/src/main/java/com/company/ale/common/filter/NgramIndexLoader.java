@@ -0,0 +1,49 @@
+package com.company.ale.common.filter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the n-gram indexes from the database once the application is up.
+ * Until an index is ready, substring filters simply run as plain LIKE queries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NgramIndexLoader {
+
+    private final NgramIndexRegistry registry;
+    private final EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        for (NgramIndex index : registry.all()) {
+            String columns = index.getAttributes().stream()
+                .map(attribute -> "e." + attribute)
+                .collect(Collectors.joining(", "));
+            String jpql = "select e.id, " + columns + " from " + index.getEntityType().getSimpleName() + " e";
+
+            try (Stream<Tuple> rows = entityManager.createQuery(jpql, Tuple.class).getResultStream()) {
+                rows.forEach(row -> {
+                    String[] values = new String[index.getAttributes().size()];
+                    for (int i = 0; i < values.length; i++) {
+                        Object value = row.get(i + 1);
+                        values[i] = value != null ? value.toString() : null;
+                    }
+                    index.load(row.get(0, Long.class), values);
+                });
+            }
+            index.markReady();
+            log.info("N-gram index for {} ready: {} rows", index.getEntityType().getSimpleName(), index.size());
+        }
+    }
+}
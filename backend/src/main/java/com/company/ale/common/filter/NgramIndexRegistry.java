@@ -0,0 +1,37 @@
+package com.company.ale.common.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up the NgramIndex of an entity type (indexes are declared as beans)
+ */
+@Component
+public class NgramIndexRegistry {
+
+    private final Map<Class<?>, NgramIndex> indexes = new LinkedHashMap<>();
+    private final boolean enabled;
+
+    public NgramIndexRegistry(List<NgramIndex> indexes,
+                              @Value("${ale.search.ngram.enabled:true}") boolean enabled) {
+        for (NgramIndex index : indexes) {
+            this.indexes.put(index.getEntityType(), index);
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Index for the entity type, or null when there is none or indexing is disabled
+     */
+    public NgramIndex forEntity(Class<?> entityType) {
+        return enabled ? indexes.get(entityType) : null;
+    }
+
+    public Collection<NgramIndex> all() {
+        return enabled ? indexes.values() : List.of();
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.ale.common.pagination;
+
+/**
+ * How totalElements is computed for a search response
+ * EXACT: separate COUNT(*) query with the same predicates (default)
+ * ESTIMATED: planner statistics, or a capped count when filters are applied
+ * NONE: no count; hasNext is derived by fetching one extra row
+ * WINDOWED: page and total in one round trip via COUNT(*) OVER()
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE,
+    WINDOWED
+}
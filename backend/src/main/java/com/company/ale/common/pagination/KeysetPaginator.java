@@ -0,0 +1,233 @@
+package com.company.ale.common.pagination;
+
+import com.company.ale.common.exception.ValidationException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination support shared by the search services.
+ *
+ * The cursor is an opaque, URL-safe token holding the sort key values of the last
+ * row of a page plus the id tiebreaker. On the next request it is turned into a
+ * seek predicate ((a > :a) OR (a = :a AND id > :id) ...) so the database can walk
+ * the index instead of skipping OFFSET rows.
+ *
+ * Null ordering differs between databases (H2 sorts NULL low, PostgreSQL high);
+ * ale.pagination.keyset.nulls-high must match the target database.
+ */
+@Component
+public class KeysetPaginator {
+
+    private static final String TIEBREAKER = "id";
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean nullsHigh;
+
+    public KeysetPaginator(@Value("${ale.pagination.keyset.nulls-high:true}") boolean nullsHigh) {
+        this.nullsHigh = nullsHigh;
+    }
+
+    /**
+     * Append the id tiebreaker so the ordering is total (required for a stable cursor)
+     */
+    public Sort withTiebreaker(Sort sort) {
+        if (sort.getOrderFor(TIEBREAKER) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, TIEBREAKER));
+    }
+
+    /**
+     * Fetch one keyset page: applies the seek predicate for the request cursor and
+     * reads size + 1 rows to detect whether another page exists (no COUNT query)
+     */
+    public <T> SearchPage<T> fetch(JpaSpecificationExecutor<T> repository,
+                                   Specification<T> spec,
+                                   Sort requestedSort,
+                                   PaginationRequest pagination) {
+        Sort sort = withTiebreaker(requestedSort);
+        int size = pagination.getSizeOrDefault();
+
+        Specification<T> seek = seek(sort, pagination.getCursor());
+        Specification<T> effective = seek != null ? spec.and(seek) : spec;
+
+        List<T> rows = repository.findBy(effective, q -> q.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encode(sort, content.get(content.size() - 1)) : null;
+
+        return SearchPage.<T>builder()
+            .content(content)
+            .pageSize(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Build the cursor for the given entity using the sort key (tiebreaker included)
+     */
+    public String encode(Sort sort, Object row) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        return encode(sort, wrapper::getPropertyValue);
+    }
+
+    /**
+     * Build the cursor from a property lookup (used for tuple projections)
+     */
+    public String encode(Sort sort, Function<String, Object> values) {
+        StringBuilder payload = new StringBuilder(signature(sort));
+        for (Sort.Order order : sort) {
+            Object value = values.apply(order.getProperty());
+            payload.append(SEPARATOR);
+            if (value == null) {
+                payload.append(NULL_VALUE);
+            } else {
+                String text = value instanceof Enum<?> e ? e.name() : value.toString();
+                payload.append(ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Build the seek predicate for a cursor, or null when there is no cursor (first page)
+     */
+    public <T> Specification<T> seek(Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> values = decode(sort, cursor);
+        List<Sort.Order> orders = sort.toList();
+
+        return (root, query, cb) -> {
+            List<Predicate> disjuncts = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+
+            for (int i = 0; i < orders.size(); i++) {
+                Sort.Order order = orders.get(i);
+                Path<Comparable<Object>> path = path(root, order.getProperty());
+                Comparable<Object> value = convert(values.get(i), path.getJavaType());
+
+                Predicate after = after(cb, path, value, order.isAscending());
+                if (after != null) {
+                    List<Predicate> conjuncts = new ArrayList<>(equalPrefix);
+                    conjuncts.add(after);
+                    disjuncts.add(cb.and(conjuncts.toArray(new Predicate[0])));
+                }
+                equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+            }
+
+            return disjuncts.isEmpty()
+                ? cb.disjunction()
+                : cb.or(disjuncts.toArray(new Predicate[0]));
+        };
+    }
+
+    // Rows strictly after the cursor value for one sort column, honouring null ordering
+    private Predicate after(CriteriaBuilder cb, Path<Comparable<Object>> path, Comparable<Object> value, boolean ascending) {
+        boolean nullsAfter = ascending == nullsHigh;
+        if (value == null) {
+            return nullsAfter ? null : cb.isNotNull(path);
+        }
+        Predicate compare = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+        return nullsAfter ? cb.or(compare, cb.isNull(path)) : compare;
+    }
+
+    private List<String> decode(Sort sort, String cursor) {
+        String payload;
+        try {
+            payload = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid pagination cursor", "VAL_011", e);
+        }
+
+        String[] parts = payload.split("\\" + SEPARATOR, -1);
+        if (!parts[0].equals(signature(sort)) || parts.length != sort.toList().size() + 1) {
+            throw new ValidationException("Pagination cursor does not match the requested sort", "VAL_011");
+        }
+
+        List<String> values = new ArrayList<>(parts.length - 1);
+        for (int i = 1; i < parts.length; i++) {
+            try {
+                values.add(NULL_VALUE.equals(parts[i])
+                    ? null
+                    : new String(DECODER.decode(parts[i]), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Invalid pagination cursor", "VAL_011", e);
+            }
+        }
+        return values;
+    }
+
+    // Short fingerprint of the ordering so a cursor cannot be replayed under another sort
+    private String signature(Sort sort) {
+        return Integer.toHexString(sort.toString().hashCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Path<Comparable<Object>> path(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return (Path<Comparable<Object>>) path;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparable<Object> convert(String text, Class<?> type) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            Object value;
+            if (type == String.class) {
+                value = text;
+            } else if (type == Long.class || type == long.class) {
+                value = Long.valueOf(text);
+            } else if (type == Integer.class || type == int.class) {
+                value = Integer.valueOf(text);
+            } else if (type == BigDecimal.class) {
+                value = new BigDecimal(text);
+            } else if (type == Boolean.class || type == boolean.class) {
+                value = Boolean.valueOf(text);
+            } else if (type == LocalDate.class) {
+                value = LocalDate.parse(text);
+            } else if (type == LocalDateTime.class) {
+                value = LocalDateTime.parse(text);
+            } else if (type.isEnum()) {
+                value = Enum.valueOf((Class<? extends Enum>) type, text);
+            } else {
+                throw new ValidationException("Unsupported sort field type for cursor: " + type.getSimpleName(), "VAL_011");
+            }
+            return (Comparable<Object>) value;
+        } catch (RuntimeException e) {
+            if (e instanceof ValidationException ve) {
+                throw ve;
+            }
+            throw new ValidationException("Invalid pagination cursor", "VAL_011", e);
+        }
+    }
+}
@@ -5,6 +5,10 @@ import lombok.Value;
 
 /**
  * Pagination metadata for search responses
+ * In KEYSET mode currentPage/totalPages are not populated; use hasNext/nextCursor instead
+ * totalElements is null when the search ran with CountMode.NONE
+ * totalCapped is true when totalElements (and so totalPages) is only a lower bound:
+ * a filtered CountMode.ESTIMATED search matched more rows than the estimate cap
  */
 @Value
 @Builder
@@ -13,4 +17,8 @@ public class PaginationMetadata {
     Integer pageSize;
     Long totalElements;
     Integer totalPages;
+    Boolean totalCapped;
+    Boolean hasNext;
+    String nextCursor;
+    CountMode countMode;
 }
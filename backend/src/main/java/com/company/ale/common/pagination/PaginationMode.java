@@ -0,0 +1,11 @@
+package com.company.ale.common.pagination;
+
+/**
+ * Pagination strategy for search requests
+ * OFFSET: classic page/size paging (LIMIT/OFFSET)
+ * KEYSET: cursor based paging using a seek predicate on the sort key
+ */
+public enum PaginationMode {
+    OFFSET,
+    KEYSET
+}
@@ -17,6 +17,12 @@ public class PaginationRequest {
     @Max(200)
     private Integer size;
 
+    // Opt-in keyset mode; implied when a cursor is sent back
+    private PaginationMode mode;
+
+    // Opaque cursor returned as PaginationMetadata.nextCursor by the previous keyset page
+    private String cursor;
+
     public int getPageOrDefault() {
         return page != null ? page : 0;
     }
@@ -24,4 +30,11 @@ public class PaginationRequest {
     public int getSizeOrDefault() {
         return size != null ? Math.min(size, 200) : 25;
     }
+
+    public PaginationMode getModeOrDefault() {
+        if (mode != null) {
+            return mode;
+        }
+        return cursor != null && !cursor.isBlank() ? PaginationMode.KEYSET : PaginationMode.OFFSET;
+    }
 }
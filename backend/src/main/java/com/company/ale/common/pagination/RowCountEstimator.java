@@ -0,0 +1,64 @@
+package com.company.ale.common.pagination;
+
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.Locale;
+
+/**
+ * Reads the planner's table row estimate from the database catalog
+ * (pg_class.reltuples on PostgreSQL, INFORMATION_SCHEMA on H2).
+ * Used by CountMode.ESTIMATED for unfiltered searches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RowCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String databaseProduct;
+
+    /**
+     * Estimated row count of the entity's table, or null when statistics are unavailable
+     */
+    public Long estimateRows(Class<?> entityType) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table == null || table.name().isEmpty()) {
+            return null;
+        }
+
+        try {
+            String product = databaseProduct();
+            Long rows = null;
+            if (product.contains("postgresql")) {
+                rows = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)",
+                    Long.class, table.name());
+            } else if (product.contains("h2")) {
+                rows = jdbcTemplate.queryForObject(
+                    "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = UPPER(?)",
+                    Long.class, table.name());
+            }
+            // reltuples is -1 for tables that were never analyzed
+            return rows != null && rows >= 0 ? rows : null;
+        } catch (DataAccessException e) {
+            log.debug("Row estimate unavailable for table {}: {}", table.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String databaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT));
+            databaseProduct = product;
+        }
+        return product;
+    }
+}
@@ -0,0 +1,394 @@
+package com.company.ale.common.pagination;
+
+import com.company.ale.common.exception.ValidationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs Specification based searches for all modules, applying the requested
+ * pagination mode (OFFSET / KEYSET) and total-count strategy (CountMode).
+ */
+@Component
+public class SearchExecutor {
+
+    private static final String TOTAL_ALIAS = "totalCount";
+
+    private final EntityManager entityManager;
+    private final KeysetPaginator keysetPaginator;
+    private final RowCountEstimator rowCountEstimator;
+    private final int estimateCap;
+
+    public SearchExecutor(EntityManager entityManager,
+                          KeysetPaginator keysetPaginator,
+                          RowCountEstimator rowCountEstimator,
+                          @Value("${ale.pagination.estimate-cap:10000}") int estimateCap) {
+        this.entityManager = entityManager;
+        this.keysetPaginator = keysetPaginator;
+        this.rowCountEstimator = rowCountEstimator;
+        this.estimateCap = estimateCap;
+    }
+
+    /**
+     * Execute a search request against the given repository/entity
+     */
+    public <T> SearchPage<T> search(JpaSpecificationExecutor<T> repository,
+                                    Class<T> entityType,
+                                    Specification<T> spec,
+                                    SearchRequest request) {
+        PaginationRequest pagination = request.getPagination() != null
+            ? request.getPagination()
+            : new PaginationRequest();
+        Sort sort = SortUtil.toSort(request.getSort());
+        CountMode countMode = request.getCountModeOrDefault();
+
+        if (pagination.getModeOrDefault() == PaginationMode.KEYSET) {
+            return searchKeyset(repository, entityType, spec, sort, pagination, request);
+        }
+
+        Pageable pageable = PageRequest.of(pagination.getPageOrDefault(), pagination.getSizeOrDefault(), sort);
+
+        switch (countMode) {
+            case NONE:
+                return withoutCount(entityType, spec, pageable, CountMode.NONE);
+            case ESTIMATED:
+                return withTotal(withoutCount(entityType, spec, pageable, CountMode.ESTIMATED),
+                    estimateTotal(entityType, spec, request.getFilters()));
+            case WINDOWED:
+                return windowed(repository, entityType, spec, pageable);
+            case EXACT:
+            default:
+                Page<T> page = repository.findAll(spec, pageable);
+                return SearchPage.<T>builder()
+                    .content(page.getContent())
+                    .pageNumber(page.getNumber())
+                    .pageSize(page.getSize())
+                    .totalElements(page.getTotalElements())
+                    .hasNext(page.hasNext())
+                    .countMode(CountMode.EXACT)
+                    .build();
+        }
+    }
+
+    /**
+     * Execute a search request selecting only the projection's attributes into tuples
+     * and mapping them straight to DTOs (no entity hydration). Supports the same
+     * pagination and count modes as the entity search.
+     */
+    public <T, R> SearchPage<R> search(JpaSpecificationExecutor<T> repository,
+                                       Class<T> entityType,
+                                       Specification<T> spec,
+                                       SearchRequest request,
+                                       SearchProjection<R> projection) {
+        PaginationRequest pagination = request.getPagination() != null
+            ? request.getPagination()
+            : new PaginationRequest();
+        Sort sort = SortUtil.toSort(request.getSort());
+        int size = pagination.getSizeOrDefault();
+
+        if (pagination.getModeOrDefault() == PaginationMode.KEYSET) {
+            Sort keysetSort = keysetPaginator.withTiebreaker(sort);
+            Specification<T> seek = keysetPaginator.seek(keysetSort, pagination.getCursor());
+            Specification<T> effective = seek != null ? spec.and(seek) : spec;
+
+            List<Tuple> rows = selectTuples(entityType, effective, projection, keysetSort, 0, size + 1, false);
+            boolean hasNext = rows.size() > size;
+            List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+            Tuple last = hasNext ? content.get(content.size() - 1) : null;
+            CountMode countMode = keysetCountMode(request);
+
+            return withTotal(SearchPage.<R>builder()
+                .content(content.stream().map(projection::map).collect(Collectors.toList()))
+                .pageSize(size)
+                .hasNext(hasNext)
+                .nextCursor(last != null ? keysetPaginator.encode(keysetSort, property -> last.get(property)) : null)
+                .countMode(countMode)
+                .build(), keysetTotal(countMode, repository, entityType, spec, request.getFilters()));
+        }
+
+        CountMode countMode = request.getCountModeOrDefault();
+        int offset = pagination.getPageOrDefault() * size;
+        boolean windowed = countMode == CountMode.WINDOWED;
+
+        // Without a window column, read one extra row to know whether another page exists
+        List<Tuple> rows = selectTuples(entityType, spec, projection, sort, offset, windowed ? size : size + 1, windowed);
+        boolean overflow = !windowed && rows.size() > size;
+        List<Tuple> content = overflow ? rows.subList(0, size) : rows;
+
+        Total total = switch (countMode) {
+            case NONE -> Total.UNKNOWN;
+            case ESTIMATED -> estimateTotal(entityType, spec, request.getFilters());
+            case WINDOWED -> Total.of(content.isEmpty()
+                ? (offset == 0 ? 0L : repository.count(spec))
+                : content.get(0).get(TOTAL_ALIAS, Long.class));
+            case EXACT -> Total.of(offset == 0 && !overflow
+                ? (long) content.size()
+                : repository.count(spec));
+        };
+        boolean hasNext = windowed ? offset + content.size() < total.value() : overflow;
+
+        return withTotal(SearchPage.<R>builder()
+            .content(content.stream().map(projection::map).collect(Collectors.toList()))
+            .pageNumber(pagination.getPageOrDefault())
+            .pageSize(size)
+            .hasNext(hasNext)
+            .countMode(countMode)
+            .build(), total);
+    }
+
+    // Keyset pages never pay for a count unless one is explicitly requested
+    private <T> SearchPage<T> searchKeyset(JpaSpecificationExecutor<T> repository,
+                                          Class<T> entityType,
+                                          Specification<T> spec,
+                                          Sort sort,
+                                          PaginationRequest pagination,
+                                          SearchRequest request) {
+        SearchPage<T> page = keysetPaginator.fetch(repository, spec, sort, pagination);
+        CountMode countMode = keysetCountMode(request);
+
+        return withTotal(page.toBuilder().countMode(countMode).build(),
+            keysetTotal(countMode, repository, entityType, spec, request.getFilters()));
+    }
+
+    // A window count over the seek query would only cover the remaining rows, so WINDOWED counts exactly
+    private CountMode keysetCountMode(SearchRequest request) {
+        CountMode requested = request.getCountMode() != null ? request.getCountMode() : CountMode.NONE;
+        return requested == CountMode.WINDOWED ? CountMode.EXACT : requested;
+    }
+
+    private <T> Total keysetTotal(CountMode countMode,
+                                  JpaSpecificationExecutor<T> repository,
+                                  Class<T> entityType,
+                                  Specification<T> spec,
+                                  Map<String, Object> filters) {
+        return switch (countMode) {
+            case EXACT, WINDOWED -> Total.of(repository.count(spec));
+            case ESTIMATED -> estimateTotal(entityType, spec, filters);
+            case NONE -> Total.UNKNOWN;
+        };
+    }
+
+    private static <T> SearchPage<T> withTotal(SearchPage<T> page, Total total) {
+        return page.toBuilder()
+            .totalElements(total.value())
+            .totalCapped(total.capped())
+            .build();
+    }
+
+    /**
+     * Stream every projected row matching the specification in sort order.
+     * Forward-only and read-only; the caller must hold a transaction and close the stream.
+     */
+    public <T, R> Stream<R> stream(Class<T> entityType,
+                                   Specification<T> spec,
+                                   Sort sort,
+                                   SearchProjection<R> projection,
+                                   int fetchSize) {
+        return entityManager.createQuery(tupleQuery(entityType, spec, projection, sort, false))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .map(projection::map);
+    }
+
+    private <T, R> List<Tuple> selectTuples(Class<T> entityType,
+                                            Specification<T> spec,
+                                            SearchProjection<R> projection,
+                                            Sort sort,
+                                            int offset,
+                                            int limit,
+                                            boolean windowCount) {
+        return entityManager.createQuery(tupleQuery(entityType, spec, projection, sort, windowCount))
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    // Select projection attributes plus sort keys and id, aliased by attribute name
+    private <T, R> JpaCriteriaQuery<Tuple> tupleQuery(Class<T> entityType,
+                                                      Specification<T> spec,
+                                                      SearchProjection<R> projection,
+                                                      Sort sort,
+                                                      boolean windowCount) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Tuple> query = cb.createTupleQuery();
+        JpaRoot<T> root = query.from(entityType);
+        applyPredicate(spec, root, query, cb);
+
+        Set<String> attributes = new LinkedHashSet<>(projection.getAttributes());
+        sort.forEach(order -> attributes.add(sortAttribute(root, order.getProperty())));
+        attributes.add("id");
+
+        List<Selection<?>> selections = new ArrayList<>(attributes.size() + 1);
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        if (windowCount) {
+            selections.add(cb.count(root.get("id"), cb.createWindow()).alias(TOTAL_ALIAS));
+        }
+        query.multiselect(selections);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    // Sort keys are selected under their attribute name (tuple alias, keyset cursor value),
+    // so only direct attributes of the entity can be sorted on in the projected path
+    private static String sortAttribute(Root<?> root, String property) {
+        if (property == null || property.contains(".")) {
+            throw new ValidationException("Unsupported sort field: " + property, "VAL_018");
+        }
+        try {
+            root.get(property);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unknown sort field: " + property, "VAL_018", e);
+        }
+        return property;
+    }
+
+    // Fetch size + 1 rows at the requested offset; the extra row only signals hasNext
+    private <T> SearchPage<T> withoutCount(Class<T> entityType,
+                                           Specification<T> spec,
+                                           Pageable pageable,
+                                           CountMode countMode) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        applyPredicate(spec, root, query, cb);
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<T> rows = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return SearchPage.<T>builder()
+            .content(hasNext ? rows.subList(0, pageable.getPageSize()) : rows)
+            .pageNumber(pageable.getPageNumber())
+            .pageSize(pageable.getPageSize())
+            .hasNext(hasNext)
+            .countMode(countMode)
+            .build();
+    }
+
+    // Page rows and COUNT(*) OVER() in a single statement
+    private <T> SearchPage<T> windowed(JpaSpecificationExecutor<T> repository,
+                                       Class<T> entityType,
+                                       Specification<T> spec,
+                                       Pageable pageable) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Tuple> query = cb.createTupleQuery();
+        JpaRoot<T> root = query.from(entityType);
+        applyPredicate(spec, root, query, cb);
+        query.multiselect(root, cb.count(root.get("id"), cb.createWindow()));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize());
+        List<Tuple> tuples = typed.getResultList();
+
+        List<T> content = new ArrayList<>(tuples.size());
+        long total;
+        if (tuples.isEmpty()) {
+            // Past the last page the window has no rows to report on
+            total = pageable.getOffset() == 0 ? 0 : repository.count(spec);
+        } else {
+            total = tuples.get(0).get(1, Long.class);
+            for (Tuple tuple : tuples) {
+                content.add(tuple.get(0, entityType));
+            }
+        }
+
+        return SearchPage.<T>builder()
+            .content(content)
+            .pageNumber(pageable.getPageNumber())
+            .pageSize(pageable.getPageSize())
+            .totalElements(total)
+            .hasNext(pageable.getOffset() + content.size() < total)
+            .countMode(CountMode.WINDOWED)
+            .build();
+    }
+
+    // Planner statistics when unfiltered, otherwise a count capped at estimateCap rows
+    // The capped count runs in the database: SELECT count(*) FROM (SELECT id ... LIMIT cap + 1)
+    private <T> Total estimateTotal(Class<T> entityType, Specification<T> spec, Map<String, Object> filters) {
+        if (!hasActiveFilters(filters)) {
+            Long estimate = rowCountEstimator.estimateRows(entityType);
+            if (estimate != null) {
+                return Total.of(estimate);
+            }
+        }
+
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Long> query = cb.createQuery(Long.class);
+        JpaSubQuery<Tuple> matching = query.subquery(Tuple.class);
+        JpaRoot<T> root = matching.from(entityType);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            matching.where(predicate);
+        }
+        matching.multiselect(root.get("id").alias("id"));
+        matching.fetch(estimateCap + 1);
+        JpaDerivedRoot<Tuple> capped = query.from(matching);
+        query.select(cb.count(capped.get("id")));
+
+        long matched = entityManager.createQuery(query).getSingleResult();
+        return matched > estimateCap ? new Total((long) estimateCap, true) : Total.of(matched);
+    }
+
+    private <T> void applyPredicate(Specification<T> spec, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * totalElements of a page; capped when only a lower bound is known (estimate over the cap)
+     */
+    private record Total(Long value, boolean capped) {
+
+        static final Total UNKNOWN = new Total(null, false);
+
+        static Total of(Long value) {
+            return new Total(value, false);
+        }
+    }
+
+    private boolean hasActiveFilters(Map<String, Object> filters) {
+        if (filters == null) {
+            return false;
+        }
+        return filters.values().stream()
+            .anyMatch(v -> v != null && !(v instanceof String s && s.isBlank()));
+    }
+}
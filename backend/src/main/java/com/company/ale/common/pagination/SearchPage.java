@@ -0,0 +1,61 @@
+package com.company.ale.common.pagination;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of rows (entities or projected DTOs) returned by SearchExecutor, independent of the
+ * pagination and count mode used to fetch it
+ */
+@Value
+@Builder(toBuilder = true)
+public class SearchPage<T> {
+    List<T> content;
+    Integer pageNumber;
+    int pageSize;
+    Long totalElements;
+    // totalElements is a lower bound (capped estimate)
+    boolean totalCapped;
+    boolean hasNext;
+    String nextCursor;
+    CountMode countMode;
+
+    /**
+     * Same page with each row converted (e.g. entity to DTO)
+     */
+    public <R> SearchPage<R> map(Function<? super T, ? extends R> converter) {
+        return SearchPage.<R>builder()
+            .content(content.stream().map(converter).collect(Collectors.toList()))
+            .pageNumber(pageNumber)
+            .pageSize(pageSize)
+            .totalElements(totalElements)
+            .totalCapped(totalCapped)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .countMode(countMode)
+            .build();
+    }
+
+    /**
+     * Build the response metadata; page/total fields stay null when unknown
+     */
+    public PaginationMetadata toMetadata() {
+        Integer totalPages = totalElements != null && pageSize > 0
+            ? (int) Math.ceil((double) totalElements / pageSize)
+            : null;
+
+        return PaginationMetadata.builder()
+            .currentPage(pageNumber)
+            .pageSize(pageSize)
+            .totalElements(totalElements)
+            .totalPages(totalPages)
+            .totalCapped(totalCapped)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .countMode(countMode)
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.ale.common.pagination;
+
+import jakarta.persistence.Tuple;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read-only projection for list screens: the entity attributes to select and
+ * how to turn the resulting tuple (aliased by attribute name) into a DTO.
+ * Rows are never hydrated as managed entities, so no dirty-checking snapshots
+ * or persistence-context growth.
+ */
+public final class SearchProjection<R> {
+
+    private final List<String> attributes;
+    private final Function<Tuple, R> mapper;
+
+    private SearchProjection(List<String> attributes, Function<Tuple, R> mapper) {
+        this.attributes = List.copyOf(attributes);
+        this.mapper = mapper;
+    }
+
+    public static <R> SearchProjection<R> of(List<String> attributes, Function<Tuple, R> mapper) {
+        return new SearchProjection<>(attributes, mapper);
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    public R map(Tuple tuple) {
+        return mapper.apply(tuple);
+    }
+}
@@ -29,4 +29,11 @@ public class SearchRequest {
     private PaginationRequest pagination;
 
     private List<SortRequest> sort;
+
+    // Total-count strategy; EXACT when omitted
+    private CountMode countMode;
+
+    public CountMode getCountModeOrDefault() {
+        return countMode != null ? countMode : CountMode.EXACT;
+    }
 }
@@ -1,6 +1,5 @@
-package com.company.ale.documenttracker.service;
+package com.company.ale.common.pagination;
 
-import com.company.ale.common.pagination.SortRequest;
 import org.springframework.data.domain.Sort;
 import java.util.List;
 import java.util.stream.Collectors;
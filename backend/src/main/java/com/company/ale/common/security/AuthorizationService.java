@@ -2,18 +2,47 @@ package com.company.ale.common.security;
 
 import com.company.ale.common.exception.AuthorizationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for checking authorization and permissions
  * Verifies user permissions against required rules
+ *
+ * The rules granted by a principal's authorities (ROLE_&lt;rule&gt;, or ROLE_ADMIN for all
+ * of them) are resolved once into a bitmask over RuleType ordinals and cached per
+ * distinct authority list, so a check is a map lookup and a bit test. Authentication
+ * tokens are rebuilt on every stateless request, hence the key is the authority list
+ * rather than the token; a principal whose roles change maps to a new entry.
+ *
+ * Configuration is read from application.properties:
+ * - ale.security.permission-cache.max-entries: Distinct authority lists cached;
+ *   the cache is cleared when it is full (default: 1000)
  */
 @Service
 @RequiredArgsConstructor
 public class AuthorizationService {
-    
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+    private static final long ALL_RULES = (1L << RuleType.values().length) - 1;
+    private static final Map<String, RuleType> RULES_BY_AUTHORITY = Arrays.stream(RuleType.values())
+        .collect(Collectors.toUnmodifiableMap(rule -> "ROLE_" + rule.name(), Function.identity()));
+
+    private final Map<Collection<? extends GrantedAuthority>, Long> grantedRulesCache = new ConcurrentHashMap<>();
+
+    @Value("${ale.security.permission-cache.max-entries:1000}")
+    private int maxCacheEntries;
+
     /**
      * Check if the current user has permission for the given rule
      * @param ruleType the rule type to check
@@ -21,21 +50,19 @@ public class AuthorizationService {
      */
     public void checkPermission(RuleType ruleType) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
+
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new AuthorizationException("User is not authenticated");
         }
-        
+
         // Check if user has the required rule/permission
-        boolean hasPermission = authentication.getAuthorities().stream()
-            .anyMatch(auth -> auth.getAuthority().equals("ROLE_" + ruleType.name()) ||
-                           auth.getAuthority().equals("ROLE_ADMIN"));
-        
-        if (!!hasPermission) {
+        boolean hasPermission = (grantedRules(authentication) & bit(ruleType)) != 0;
+
+        if (!hasPermission) {
             throw new AuthorizationException("User does not have permission for: " + ruleType);
         }
     }
-    
+
     /**
      * Check if the current user is authenticated
      * @return true if user is authenticated, false otherwise
@@ -44,4 +71,43 @@ public class AuthorizationService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         return authentication != null && authentication.isAuthenticated();
     }
+
+    /**
+     * Rules granted to the authentication, one bit per RuleType ordinal (cached per authority list)
+     */
+    long grantedRules(Authentication authentication) {
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        Long cached = grantedRulesCache.get(authorities);
+        if (cached != null) {
+            return cached;
+        }
+        long rules = resolve(authorities);
+        // Only lists are cached: the copy used as key must compare equal to later lookups
+        if (authorities instanceof List) {
+            if (grantedRulesCache.size() >= maxCacheEntries) {
+                grantedRulesCache.clear();
+            }
+            grantedRulesCache.put(List.copyOf(authorities), rules);
+        }
+        return rules;
+    }
+
+    static long bit(RuleType ruleType) {
+        return 1L << ruleType.ordinal();
+    }
+
+    private static long resolve(Collection<? extends GrantedAuthority> authorities) {
+        long rules = 0;
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (ADMIN_AUTHORITY.equals(name)) {
+                return ALL_RULES;
+            }
+            RuleType rule = name != null ? RULES_BY_AUTHORITY.get(name) : null;
+            if (rule != null) {
+                rules |= bit(rule);
+            }
+        }
+        return rules;
+    }
 }
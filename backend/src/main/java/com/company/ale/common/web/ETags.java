@@ -0,0 +1,42 @@
+package com.company.ale.common.web;
+
+/**
+ * Strong entity tags derived from an entity's @Version, for conditional GETs
+ * (If-None-Match answered with 304 Not Modified)
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Strong ETag for an entity version, e.g. "7"
+     */
+    public static String of(Integer version) {
+        return "\"" + (version != null ? version : 0) + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current ETag
+     * Accepts "*" and comma-separated lists; W/ prefixes are ignored
+     * (If-None-Match uses the weak comparison)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.ale.dashboard.controller;
+
+import com.company.ale.dashboard.dto.DashboardSummaryResponse;
+import com.company.ale.dashboard.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the landing page dashboard
+ * Base path: /api/dashboard
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Cross-module summary APIs")
+public class DashboardController {
+
+    private final DashboardService service;
+
+    /**
+     * Capital call queue counts, document tracker and alternative data status totals
+     * GET /api/dashboard/summary
+     */
+    @Operation(summary = "Get dashboard summary",
+               description = "Runs the section aggregations concurrently against one deadline. Sections that time out or fail "
+                   + "are reported with their status and timing, and complete is false (partial result). Requires RULE_VIEW.")
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> getSummary() {
+        return ResponseEntity.ok(service.getSummary());
+    }
+}
@@ -0,0 +1,32 @@
+package com.company.ale.dashboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One section of the dashboard summary
+ * data is only present when status is OK; errorCode / message otherwise
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardSection<T> {
+
+    SectionStatus status;
+
+    T data;
+
+    // Time the section ran, or waited until the deadline
+    long elapsedMs;
+
+    String errorCode;
+
+    String message;
+
+    public enum SectionStatus {
+        OK,
+        TIMED_OUT,
+        FAILED
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.ale.dashboard.dto;
+
+import com.company.ale.capitalcall.dto.CapitalCallCountResponse;
+import lombok.Builder;
+import lombok.Value;
+import java.util.Map;
+
+/**
+ * Landing page summary across modules
+ * complete is false when any section timed out or failed (partial result)
+ */
+@Value
+@Builder
+public class DashboardSummaryResponse {
+
+    // Capital call counts per queue, with the workflow status breakdown
+    DashboardSection<CapitalCallCountResponse> capitalCallQueues;
+
+    // Document counts per status
+    DashboardSection<Map<String, Long>> documentTrackerStatuses;
+
+    // Alternative data record counts per status
+    DashboardSection<Map<String, Long>> alternativeDataStatuses;
+
+    boolean complete;
+
+    long elapsedMs;
+}
@@ -0,0 +1,233 @@
+package com.company.ale.dashboard.service;
+
+import com.company.ale.alternativedata.service.AlternativeDataService;
+import com.company.ale.capitalcall.dto.CapitalCallCountRequest;
+import com.company.ale.capitalcall.dto.CapitalCallCountResponse;
+import com.company.ale.capitalcall.service.CapitalCallService;
+import com.company.ale.common.exception.AuthorizationException;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import com.company.ale.dashboard.dto.DashboardSection;
+import com.company.ale.dashboard.dto.DashboardSummaryResponse;
+import com.company.ale.documenttracker.service.DocumentTrackerService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Landing page summary: capital call queue counts, document tracker and alternative
+ * data status totals, computed concurrently.
+ *
+ * Each section is forked on its own virtual thread, carrying the caller's security
+ * context and correlation id, and every section is joined against one deadline for the
+ * whole call. A section still running at the deadline is reported as TIMED_OUT, a
+ * failing one as FAILED with its error code; the others are returned as usual.
+ *
+ * Each section runs its own read-only transaction, so one call may hold up to three
+ * connections at once. The transaction timeout ends at the deadline, and every query
+ * gets the time left as its JDBC query timeout. Interrupting the thread does not stop
+ * a running statement, but the database cancels it when that time runs out. JDBC
+ * timeouts have whole seconds, so a deadline is rounded up to the next second. A
+ * timed-out section is interrupted, which stops any wait for a connection. The call
+ * then waits until the section has ended its transaction, so no section holds a
+ * connection after the call returns. That wait ends at most RELEASE_GRACE after the
+ * rounded-up timeout. The latency is that of the slowest section, capped by the
+ * deadline for a section blocked in Java and by the query timeout for one blocked in
+ * a statement.
+ *
+ * Configuration is read from application.properties:
+ * - ale.dashboard.summary.deadline: Time allowed for all sections (default: PT2S)
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final CapitalCallService capitalCallService;
+    private final DocumentTrackerService documentTrackerService;
+    private final AlternativeDataService alternativeDataService;
+    private final AuthorizationService authorizationService;
+    private final PlatformTransactionManager transactionManager;
+    private final Duration deadline;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Time for the driver to cancel a statement whose query timeout has expired
+    private static final Duration RELEASE_GRACE = Duration.ofSeconds(1);
+
+    public DashboardService(CapitalCallService capitalCallService,
+                            DocumentTrackerService documentTrackerService,
+                            AlternativeDataService alternativeDataService,
+                            AuthorizationService authorizationService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${ale.dashboard.summary.deadline:PT2S}") Duration deadline) {
+        this.capitalCallService = capitalCallService;
+        this.documentTrackerService = documentTrackerService;
+        this.alternativeDataService = alternativeDataService;
+        this.authorizationService = authorizationService;
+        this.transactionManager = transactionManager;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Summary of all modules; sections that miss the deadline or fail are reported as such
+     */
+    public DashboardSummaryResponse getSummary() {
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+
+        long start = System.nanoTime();
+        long deadlineNanos = start + deadline.toNanos();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        // Section transactions, with the deadline as timeout (JDBC query timeouts are whole seconds)
+        int timeoutSeconds = (int) Math.max(1, (deadline.toMillis() + 999) / 1000);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout(timeoutSeconds);
+        long releaseNanos = start + TimeUnit.SECONDS.toNanos(timeoutSeconds) + RELEASE_GRACE.toNanos();
+
+        Fork<CapitalCallCountResponse> capitalCalls = fork(() -> capitalCallService.getCountsByQueue(
+            CapitalCallCountRequest.builder().includeStatusBreakdown(true).build()), transaction, securityContext, mdc);
+        Fork<Map<String, Long>> documents = fork(documentTrackerService::getStatusTotals, transaction, securityContext, mdc);
+        Fork<Map<String, Long>> alternativeData = fork(alternativeDataService::getStatusTotals, transaction, securityContext, mdc);
+
+        try {
+            DashboardSection<CapitalCallCountResponse> capitalCallSection = capitalCalls.join("capitalCallQueues", deadlineNanos);
+            DashboardSection<Map<String, Long>> documentSection = documents.join("documentTrackerStatuses", deadlineNanos);
+            DashboardSection<Map<String, Long>> alternativeDataSection = alternativeData.join("alternativeDataStatuses", deadlineNanos);
+            boolean complete = List.of(capitalCallSection, documentSection, alternativeDataSection).stream()
+                .allMatch(section -> section.getStatus() == DashboardSection.SectionStatus.OK);
+
+            return DashboardSummaryResponse.builder()
+                .capitalCallQueues(capitalCallSection)
+                .documentTrackerStatuses(documentSection)
+                .alternativeDataStatuses(alternativeDataSection)
+                .complete(complete)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+        } finally {
+            // Nothing keeps running, or holds a connection, once the call returns (or is interrupted)
+            capitalCalls.cancel();
+            documents.cancel();
+            alternativeData.cancel();
+            capitalCalls.awaitRelease("capitalCallQueues", releaseNanos);
+            documents.awaitRelease("documentTrackerStatuses", releaseNanos);
+            alternativeData.awaitRelease("alternativeDataStatuses", releaseNanos);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Fork<T> fork(Supplier<T> section, TransactionTemplate transaction,
+                             SecurityContext securityContext, Map<String, String> mdc) {
+        Fork<T> fork = new Fork<>();
+        fork.future = executor.submit(() -> {
+            if (!fork.started.compareAndSet(false, true)) {
+                // Cancelled before it started
+                return null;
+            }
+            SecurityContextHolder.setContext(securityContext);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return transaction.execute(status -> section.get());
+            } finally {
+                fork.finishedNanos = System.nanoTime();
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+                // The transaction has ended and its connection is back in the pool
+                fork.released.countDown();
+            }
+        });
+        return fork;
+    }
+
+    // A forked section: its future, timing and whether its connection has been released
+    private static final class Fork<T> {
+
+        private final long startedNanos = System.nanoTime();
+        private volatile long finishedNanos;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private Future<T> future;
+
+        DashboardSection<T> join(String name, long deadlineNanos) {
+            try {
+                T data = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return DashboardSection.<T>builder()
+                    .status(DashboardSection.SectionStatus.OK)
+                    .data(data)
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(finishedNanos - startedNanos))
+                    .build();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Dashboard section {} did not complete before the deadline", name);
+                return failed(DashboardSection.SectionStatus.TIMED_OUT, "TIMEOUT", "Not completed before the deadline");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                log.warn("Dashboard section {} failed: {}", name, cause.getMessage());
+                if (cause instanceof ValidationException validation) {
+                    return failed(DashboardSection.SectionStatus.FAILED, validation.getErrorCode(), validation.getMessage());
+                }
+                if (cause instanceof AuthorizationException) {
+                    return failed(DashboardSection.SectionStatus.FAILED, "ACCESS_DENIED", cause.getMessage());
+                }
+                return failed(DashboardSection.SectionStatus.FAILED, "INTERNAL_ERROR", "An unexpected error occurred");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return failed(DashboardSection.SectionStatus.FAILED, "INTERRUPTED", "Summary request was interrupted");
+            }
+        }
+
+        void cancel() {
+            future.cancel(true);
+        }
+
+        // Wait (up to releaseNanos) for the section to end its transaction, unless it never started
+        void awaitRelease(String name, long releaseNanos) {
+            if (started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (!released.await(Math.max(0, releaseNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("Dashboard section {} still holds its connection after its query timeout", name);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private DashboardSection<T> failed(DashboardSection.SectionStatus status, String errorCode, String message) {
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            return DashboardSection.<T>builder()
+                .status(status)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(end - startedNanos))
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+        }
+    }
+}
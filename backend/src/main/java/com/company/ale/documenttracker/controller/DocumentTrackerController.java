@@ -1,21 +1,40 @@
 package com.company.ale.documenttracker.controller;
 
+import com.company.ale.common.export.ExportFormat;
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
+import com.company.ale.common.web.ETags;
 import com.company.ale.documenttracker.dto.DocumentTrackerDTO;
 import com.company.ale.documenttracker.dto.DocumentDetailsDTO;
+import com.company.ale.documenttracker.dto.BulkCreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.BulkCreateDocumentTrackerResponse;
 import com.company.ale.documenttracker.dto.CreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.ExportDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.SubDocumentStatusEventsRequest;
+import com.company.ale.documenttracker.dto.SubDocumentStatusEventsResponse;
 import com.company.ale.documenttracker.dto.UpdateDocumentTrackerRequest;
 import com.company.ale.documenttracker.dto.PercentageRequest;
+import com.company.ale.documenttracker.repository.DocumentTrackerRepository;
+import com.company.ale.documenttracker.service.DocumentDetailsCache;
 import com.company.ale.documenttracker.service.DocumentTrackerService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.company.ale.common.validation.PercentageValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 
@@ -24,6 +43,8 @@ import jakarta.validation.constraints.Pattern;
 // Endpoints:
 // - POST /search - Search documents
 // - GET /{genId}/details - Get details
+// - POST /export - Stream search results as CSV
+// - POST /sub-documents/status-events - Buffered sub-document status updates
 // Controller only handles HTTP - delegates to service
 // Include OpenAPI annotations
 @RestController
@@ -48,16 +69,52 @@ public class DocumentTrackerController {
         return ResponseEntity.ok(response);
     }
     
+    // POST /api/document-tracker/export
+    // Summary: Export document trackers matching the search filters
+    // Request: ExportDocumentTrackerRequest (search filters/sort + format)
+    // Response: file streamed as it is produced (no Content-Length)
+    @Operation(summary = "Export document trackers")
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Valid @RequestBody ExportDocumentTrackerRequest request) {
+        StreamingResponseBody body = service.export(request);
+        ExportFormat format = request.getFormat();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("document-tracker." + format.getExtension()).build().toString())
+            .body(body);
+    }
+    
     // GET /api/document-tracker/{genId}/details
     // Summary: Get document details by GenId
     // Request: GenId path variable
-    // Response: DocumentDetailsDTO
+    // Response: DocumentDetailsDTO JSON with ETag = document version;
+    //           304 Not Modified when If-None-Match matches (version-only lookup, nothing else loaded)
+    // The JSON is written as-is from the serialized details cache (see DocumentDetailsCache),
+    // hence the raw response instead of a ResponseEntity
     @Operation(summary = "Get document details")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+        schema = @Schema(implementation = DocumentDetailsDTO.class)))
     @GetMapping("/{genId}/details")
-    public ResponseEntity<DocumentDetailsDTO> getDocumentDetails(
-            @PathVariable @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Invalid GenId format") String genId) {
-        DocumentDetailsDTO response = service.getDocumentDetails(genId);
-        return ResponseEntity.ok(response);
+    public void getDocumentDetails(
+            @PathVariable @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Invalid GenId format") String genId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response) throws IOException {
+        DocumentTrackerRepository.VersionRef current = service.getDocumentVersion(genId);
+        String etag = ETags.of(current.getVersion());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        try (DocumentDetailsCache.SerializedDetails details = service.getSerializedDocumentDetails(genId, current)) {
+            response.setHeader(HttpHeaders.ETAG, ETags.of(details.getVersion()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(details.length());
+            details.writeTo(response.getOutputStream());
+        }
     }
     
     // COPILOT: Generate a method that:
@@ -84,6 +141,32 @@ public class DocumentTrackerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // POST /api/document-tracker/bulk
+    // Summary: Bulk ingest of document trackers with their sub-documents
+    // Request: BulkCreateDocumentTrackerRequest (up to ale.document-tracker.bulk.max-documents)
+    // Response: BulkCreateDocumentTrackerResponse with status 201 Created;
+    //           GenIds that already exist are skipped and listed
+    @Operation(summary = "Bulk create document trackers")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateDocumentTrackerResponse> bulkCreateDocuments(
+            @Valid @RequestBody BulkCreateDocumentTrackerRequest request) {
+        BulkCreateDocumentTrackerResponse response = service.bulkCreate(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // POST /api/document-tracker/sub-documents/status-events
+    // Summary: Report Sub Document status changes (processing farm)
+    // Request: SubDocumentStatusEventsRequest, events applied in order
+    // Response: SubDocumentStatusEventsResponse with status 202 Accepted (written on the next flush);
+    //           429 with Retry-After when the status buffer is full
+    @Operation(summary = "Report sub-document status events")
+    @PostMapping("/sub-documents/status-events")
+    public ResponseEntity<SubDocumentStatusEventsResponse> reportStatusEvents(
+            @Valid @RequestBody SubDocumentStatusEventsRequest request) {
+        SubDocumentStatusEventsResponse response = service.acceptStatusEvents(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     // PUT /api/document-tracker/{genId}
     // Summary: Update document tracker by GenId
     // Request: UpdateDocumentTrackerRequest
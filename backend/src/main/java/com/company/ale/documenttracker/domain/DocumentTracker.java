@@ -4,9 +4,13 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import com.company.ale.common.filter.NgramIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,7 +20,13 @@ import java.util.List;
 // Fields: id, genId (unique, pattern GEN\d{8}), documentType, receivedAt
 // One-to-Many relationship with SubDocument
 // Audit fields: createdAt, createdBy, modifiedAt, modifiedBy
+// version: optimistic lock and ETag of the details view; bumped as well when the
+// sub-documents change (see SubDocumentStatusBuffer)
+// Fetch plans: detail lookups use the "DocumentTracker.withSubDocuments" graph (one join query);
+// lists initialise subDocuments in IN batches of 50 owners
 @Entity
+@NamedEntityGraph(name = DocumentTracker.WITH_SUB_DOCUMENTS, attributeNodes = @NamedAttributeNode("subDocuments"))
+@EntityListeners(NgramIndexListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "document_tracker")
@@ -24,9 +34,13 @@ import java.util.List;
 @Builder
 public class DocumentTracker {
     
+    public static final String WITH_SUB_DOCUMENTS = "DocumentTracker.withSubDocuments";
+    
+    // Pooled sequence (blocks of 50 ids per round trip) so inserts can be JDBC batched
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_tracker_seq")
+    @SequenceGenerator(name = "document_tracker_seq", sequenceName = "document_tracker_seq", allocationSize = 50)
     private Long id;
     
     // GenId must be unique and match pattern GEN followed by 8 digits
@@ -70,7 +84,11 @@ public class DocumentTracker {
     @Column(name = "received_at")
     private LocalDateTime receivedAt;
     
+    // Excluded from toString/equals/hashCode so they never initialise the lazy collection
     @OneToMany(mappedBy = "documentTracker", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<SubDocument> subDocuments = new ArrayList<>();
     
     @Column(name = "created_at")
@@ -84,6 +102,11 @@ public class DocumentTracker {
     
     @Column(name = "modified_by")
     private String modifiedBy;
+    
+    @Version
+    @Column(name = "version")
+    private Integer version;
+    
     // Helper method to add SubDocument
     public void addSubDocument(SubDocument subDocument) {
         subDocuments.add(subDocument);
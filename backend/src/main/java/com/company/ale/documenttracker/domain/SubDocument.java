@@ -4,7 +4,9 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -22,8 +24,10 @@ import java.time.LocalDateTime;
 @Builder
 public class SubDocument {
     
+    // Pooled sequence (see DocumentTracker.id) so inserts can be JDBC batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sub_document_seq")
+    @SequenceGenerator(name = "sub_document_seq", sequenceName = "sub_document_seq", allocationSize = 50)
     private Long id;
     
     // Unique SubId
@@ -31,8 +35,11 @@ public class SubDocument {
     private String subId;
     
     // Many-to-one relationship with DocumentTracker
+    // Excluded from toString/equals/hashCode (lazy proxy, and it points back at this row)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gen_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private DocumentTracker documentTracker;
     
     // Status enum
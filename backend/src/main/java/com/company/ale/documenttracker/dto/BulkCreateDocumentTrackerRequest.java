@@ -0,0 +1,19 @@
+package com.company.ale.documenttracker.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request DTO for bulk ingest of Document Trackers with their sub-documents
+ * Used by POST /api/document-tracker/bulk endpoint
+ */
+@Value
+@Builder
+public class BulkCreateDocumentTrackerRequest {
+    
+    @NotEmpty(message = "At least one document is required")
+    private List<@Valid CreateDocumentTrackerRequest> documents;
+}
@@ -0,0 +1,20 @@
+package com.company.ale.documenttracker.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+/**
+ * Response DTO for bulk ingest of Document Trackers
+ * GenIds that already existed are skipped (not overwritten), so a batch can be resent safely
+ */
+@Value
+@Builder
+public class BulkCreateDocumentTrackerResponse {
+    
+    private int createdCount;
+    
+    private int subDocumentCount;
+    
+    private List<String> skippedGenIds;
+}
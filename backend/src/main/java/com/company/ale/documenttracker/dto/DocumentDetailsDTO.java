@@ -31,4 +31,6 @@ public class DocumentDetailsDTO {
     private String createdBy;
     private LocalDateTime modifiedAt;
     private String modifiedBy;
+    // Also sent as the ETag of GET /{genId}/details
+    private Integer version;
 }
@@ -3,6 +3,7 @@ package com.company.ale.documenttracker.dto;
 import lombok.Builder;
 import lombok.Value;
 import jakarta.validation.constraints.NotNull;
+import com.company.ale.common.export.ExportFormat;
 import com.company.ale.common.pagination.SearchRequest;
 
 /**
@@ -14,19 +15,11 @@ import com.company.ale.common.pagination.SearchRequest;
 @Builder
 public class ExportDocumentTrackerRequest {
     
-    // Search criteria (filters, pagination, sort)
+    // Search criteria (filters, sort); pagination is ignored, every matching row is exported
     @NotNull(message = "Search parameters are required")
     private SearchRequest searchRequest;
     
     // Export format: CSV or XLSX
     @NotNull(message = "Export format is required")
     private ExportFormat format;
-    
-    /**
-     * Supported export formats
-     */
-    public enum ExportFormat {
-        CSV,
-        XLSX
-    }
 }
@@ -0,0 +1,30 @@
+package com.company.ale.documenttracker.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import com.company.ale.documenttracker.domain.SubIdStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Status change of one Sub Document reported by the processing farm
+ * Used by POST /api/document-tracker/sub-documents/status-events
+ */
+@Value
+@Builder
+public class SubDocumentStatusEvent {
+    
+    @NotBlank(message = "SubId is required")
+    private String subId;
+    
+    @NotNull(message = "Status is required")
+    private SubIdStatus status;
+    
+    @Size(max = 500, message = "Status message must be at most 500 characters")
+    private String statusMessage;
+    
+    // Defaults to the time the event is accepted
+    private LocalDateTime processedAt;
+}
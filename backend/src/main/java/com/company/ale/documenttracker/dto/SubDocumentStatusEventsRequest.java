@@ -0,0 +1,18 @@
+package com.company.ale.documenttracker.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request DTO for a batch of Sub Document status events, applied in order
+ */
+@Value
+@Builder
+public class SubDocumentStatusEventsRequest {
+    
+    @NotEmpty(message = "At least one event is required")
+    private List<@Valid SubDocumentStatusEvent> events;
+}
@@ -0,0 +1,18 @@
+package com.company.ale.documenttracker.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response DTO for accepted Sub Document status events
+ * The events are buffered and written on the next flush, not when this is returned
+ */
+@Value
+@Builder
+public class SubDocumentStatusEventsResponse {
+    
+    private int acceptedCount;
+    
+    // Distinct SubIds waiting for the next flush (repeated events for a SubId are coalesced)
+    private int pendingCount;
+}
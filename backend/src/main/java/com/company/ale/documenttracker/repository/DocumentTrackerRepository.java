@@ -1,15 +1,20 @@
 package com.company.ale.documenttracker.repository;
 
 import com.company.ale.documenttracker.domain.DocumentTracker;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // DocumentTracker repository
 // Extends JpaRepository for basic CRUD
 // Extends JpaSpecificationExecutor for dynamic queries
-// Custom method: findByGenId
+// Custom methods: findByGenId, findWithSubDocumentsByGenId, findVersionByGenId, findExistingGenIds, countByStatus
 @Repository
 public interface DocumentTrackerRepository extends 
     JpaRepository<DocumentTracker, Long>,
@@ -17,4 +22,32 @@ public interface DocumentTrackerRepository extends
     
     // Find by GenId - returns Optional
     Optional<DocumentTracker> findByGenId(String genId);
+    
+    // Find by GenId with its sub-documents in the same query (detail view, delete cascade)
+    @EntityGraph(DocumentTracker.WITH_SUB_DOCUMENTS)
+    Optional<DocumentTracker> findWithSubDocumentsByGenId(String genId);
+    
+    // Id and version only - answers conditional GETs without loading the aggregate
+    @Query("SELECT d.id AS id, d.version AS version FROM DocumentTracker d WHERE d.genId = :genId")
+    Optional<VersionRef> findVersionByGenId(@Param("genId") String genId);
+    
+    // Which of the given GenIds already exist - one set-based query for bulk ingest
+    @Query("SELECT d.genId FROM DocumentTracker d WHERE d.genId IN :genIds")
+    List<String> findExistingGenIds(@Param("genIds") Collection<String> genIds);
+    
+    // Document counts per status in one grouped query (dashboard summary)
+    @Query("SELECT d.status AS status, COUNT(d) AS total FROM DocumentTracker d GROUP BY d.status")
+    List<StatusCount> countByStatus();
+    
+    // Row of countByStatus
+    interface StatusCount {
+        String getStatus();
+        long getTotal();
+    }
+    
+    // Row of findVersionByGenId
+    interface VersionRef {
+        Long getId();
+        Integer getVersion();
+    }
 }
@@ -0,0 +1,129 @@
+package com.company.ale.documenttracker.service;
+
+import com.company.ale.common.cache.CacheRegistry;
+import com.company.ale.common.cache.OffHeapByteCache;
+import com.company.ale.documenttracker.dto.DocumentDetailsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+// Serialized Document Details cache
+// Used by GET /api/document-tracker/{genId}/details
+// - The details JSON is held off-heap (OffHeapByteCache), keyed by GenId and tagged with
+//   the document's row id and version; a hit is copied straight to the response, without
+//   loading the aggregate or building DTOs
+// - A hit requires the cached row id and version to be the current ones (the lookup already
+//   made for the ETag). The version alone is not enough: a GenId deleted and created again
+//   starts over at version 0, but it gets a new row id. So a missed invalidation (e.g. a
+//   write through another instance) does not serve stale details
+// - Entries are dropped after commit by create / bulk create / update / delete, and by
+//   SubDocumentStatusBuffer for the parents of the Sub Documents it updates
+//
+// Configuration is read from application.properties:
+// - ale.document-tracker.details-cache.max-bytes: Off-heap byte budget (default: 64 MiB)
+// - ale.document-tracker.details-cache.block-bytes: Allocation unit (default: 4096)
+// - ale.document-tracker.details-cache.max-entry-bytes: Larger documents are not cached (default: 1 MiB)
+@Component
+public class DocumentDetailsCache {
+
+    private final OffHeapByteCache<String> cache;
+    private final JsonMapper jsonMapper;
+
+    public DocumentDetailsCache(CacheRegistry cacheRegistry,
+                                JsonMapper jsonMapper,
+                                @Value("${ale.document-tracker.details-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${ale.document-tracker.details-cache.block-bytes:4096}") int blockBytes,
+                                @Value("${ale.document-tracker.details-cache.max-entry-bytes:1048576}") int maxEntryBytes) {
+        this.cache = cacheRegistry.createOffHeap("document-details", maxBytes, blockBytes, maxEntryBytes);
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Cached details of the document row at the given version, or null
+    public SerializedDetails find(String genId, long id, int version) {
+        OffHeapByteCache<String>.Handle handle = cache.acquire(genId, new Tag(id, version));
+        return handle == null ? null : new SerializedDetails(version, handle, null);
+    }
+
+    // Marker to take before loading the details of a document (see store)
+    public long writeStamp(String genId) {
+        return cache.writeStamp(genId);
+    }
+
+    // Serialize the details of document row id and cache them, unless the document was
+    // invalidated since the stamp
+    public SerializedDetails store(DocumentDetailsDTO details, long id, long stamp) {
+        byte[] json = jsonMapper.writeValueAsBytes(details);
+        cache.put(details.getGenId(), new Tag(id, details.getVersion()), json, stamp);
+        return new SerializedDetails(details.getVersion(), null, json);
+    }
+
+    public void invalidate(Collection<String> genIds) {
+        genIds.forEach(cache::invalidate);
+    }
+
+    // Drop the entries once the current transaction commits (readers still see the old rows until then)
+    public void invalidateAfterCommit(String genId) {
+        invalidateAfterCommit(List.of(genId));
+    }
+
+    public void invalidateAfterCommit(Collection<String> genIds) {
+        // Dropped right away too, so an entry read before the commit does not outlive it
+        invalidate(genIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(genIds);
+                }
+            });
+        }
+    }
+
+    // Row id and version a cached entry was serialized from
+    private record Tag(long id, int version) {
+    }
+
+    // Details JSON of one document version: a pinned cache entry or freshly serialized bytes
+    // Must be closed (try-with-resources) to release the cache entry
+    public static final class SerializedDetails implements AutoCloseable {
+
+        private final int version;
+        private final OffHeapByteCache<String>.Handle handle;
+        private final byte[] json;
+
+        private SerializedDetails(int version, OffHeapByteCache<String>.Handle handle, byte[] json) {
+            this.version = version;
+            this.handle = handle;
+            this.json = json;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public int length() {
+            return handle != null ? handle.length() : json.length;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            if (handle != null) {
+                handle.writeTo(out);
+            } else {
+                out.write(json);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (handle != null) {
+                handle.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.ale.documenttracker.service;
+
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.common.export.ExportService;
+import com.company.ale.common.export.ExportSource;
+import com.company.ale.common.export.ExportTask;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchRequest;
+import com.company.ale.common.pagination.SortUtil;
+import com.company.ale.common.security.AuthorizationService;
+import com.company.ale.common.security.RuleType;
+import com.company.ale.documenttracker.domain.DocumentTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+// Document Tracker export source
+// Used by POST /api/document-tracker/export and by export jobs
+@Component
+@RequiredArgsConstructor
+public class DocumentTrackerExportSource implements ExportSource {
+
+    private final AuthorizationService authorizationService;
+    private final DocumentTrackerMapper mapper;
+    private final ExportService exportService;
+    private final NgramIndexRegistry ngramIndexes;
+
+    @Override
+    public ExportModule getModule() {
+        return ExportModule.DOCUMENT_TRACKER;
+    }
+
+    @Override
+    public String getFileName() {
+        return "document-tracker";
+    }
+
+    // Steps:
+    // 1. Check authorization (RULE_EXPORT)
+    // 2. Build Specification and Sort (pagination is ignored, every matching row is exported)
+    // 3. Return the task streaming DTO projection rows through the export columns
+    @Override
+    public ExportTask prepare(SearchRequest request) {
+        authorizationService.checkPermission(RuleType.RULE_EXPORT);
+
+        DocumentTrackerSpecification spec = new DocumentTrackerSpecification(
+            request.getFilters(), ngramIndexes.forEntity(DocumentTracker.class));
+        Sort sort = SortUtil.toSort(request.getSort());
+
+        return (writer, progress) -> exportService.export(DocumentTracker.class, spec, sort,
+            mapper.searchProjection(), mapper.exportColumns(), writer, progress);
+    }
+}
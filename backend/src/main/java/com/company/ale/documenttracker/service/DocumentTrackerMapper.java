@@ -6,10 +6,15 @@ import com.company.ale.documenttracker.dto.DocumentTrackerDTO;
 import com.company.ale.documenttracker.dto.DocumentDetailsDTO;
 import com.company.ale.documenttracker.dto.SubDocumentDTO;
 import com.company.ale.documenttracker.dto.CreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.CreateSubDocumentRequest;
 import com.company.ale.documenttracker.dto.UpdateDocumentTrackerRequest;
+import com.company.ale.common.export.ExportColumn;
+import com.company.ale.common.pagination.SearchProjection;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -18,6 +23,53 @@ import java.time.LocalDateTime;
 @Component
 public class DocumentTrackerMapper {
     
+    /**
+     * Columns read by the search projection (see toDTO(Tuple))
+     */
+    private static final SearchProjection<DocumentTrackerDTO> SEARCH_PROJECTION = SearchProjection.of(
+        List.of("genId", "documentName", "documentDate", "documentType", "clientName", "aleGenId",
+            "accountNumber", "securityNumber", "status", "currentLocation", "businessUnit", "link",
+            "receivedAt", "createdAt", "createdBy", "modifiedAt", "modifiedBy"),
+        DocumentTrackerMapper::toDTO);
+    
+    /**
+     * Columns of the document tracker export, in file order
+     */
+    private static final List<ExportColumn<DocumentTrackerDTO>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("Gen ID", DocumentTrackerDTO::getGenId),
+        ExportColumn.of("Document Name", DocumentTrackerDTO::getDocumentName),
+        ExportColumn.of("Document Date", DocumentTrackerDTO::getDocumentDate),
+        ExportColumn.of("Document Type", DocumentTrackerDTO::getDocumentType),
+        ExportColumn.of("Client Name", DocumentTrackerDTO::getClientName),
+        ExportColumn.of("ALE Gen ID", DocumentTrackerDTO::getAleGenId),
+        ExportColumn.of("Account Number", DocumentTrackerDTO::getAccountNumber),
+        ExportColumn.of("Security Number", DocumentTrackerDTO::getSecurityNumber),
+        ExportColumn.of("Status", DocumentTrackerDTO::getStatus),
+        ExportColumn.of("Current Location", DocumentTrackerDTO::getCurrentLocation),
+        ExportColumn.of("Business Unit", DocumentTrackerDTO::getBusinessUnit),
+        ExportColumn.of("Link", DocumentTrackerDTO::getLink),
+        ExportColumn.of("Received At", DocumentTrackerDTO::getReceivedAt),
+        ExportColumn.of("Created At", DocumentTrackerDTO::getCreatedAt),
+        ExportColumn.of("Created By", DocumentTrackerDTO::getCreatedBy),
+        ExportColumn.of("Modified At", DocumentTrackerDTO::getModifiedAt),
+        ExportColumn.of("Modified By", DocumentTrackerDTO::getModifiedBy));
+    
+    /**
+     * Columns written by the export, read from searchProjection() rows
+     * @return the export columns
+     */
+    public List<ExportColumn<DocumentTrackerDTO>> exportColumns() {
+        return EXPORT_COLUMNS;
+    }
+    
+    /**
+     * Projection used by search to select rows straight into DocumentTrackerDTO
+     * @return the search projection
+     */
+    public SearchProjection<DocumentTrackerDTO> searchProjection() {
+        return SEARCH_PROJECTION;
+    }
+    
     /**
      * Convert DocumentTracker entity to DocumentTrackerDTO
      * @param documentTracker the entity to convert
@@ -49,6 +101,33 @@ public class DocumentTrackerMapper {
             .build();
     }
     
+    /**
+     * Convert a search projection tuple to DocumentTrackerDTO
+     * @param tuple the row selected by SEARCH_PROJECTION
+     * @return the DTO
+     */
+    private static DocumentTrackerDTO toDTO(Tuple tuple) {
+        return DocumentTrackerDTO.builder()
+            .genId(tuple.get("genId", String.class))
+            .documentName(tuple.get("documentName", String.class))
+            .documentDate(tuple.get("documentDate", LocalDate.class))
+            .documentType(tuple.get("documentType", String.class))
+            .clientName(tuple.get("clientName", String.class))
+            .aleGenId(tuple.get("aleGenId", String.class))
+            .accountNumber(tuple.get("accountNumber", String.class))
+            .securityNumber(tuple.get("securityNumber", String.class))
+            .status(tuple.get("status", String.class))
+            .currentLocation(tuple.get("currentLocation", String.class))
+            .businessUnit(tuple.get("businessUnit", String.class))
+            .link(tuple.get("link", String.class))
+            .receivedAt(tuple.get("receivedAt", LocalDateTime.class))
+            .createdAt(tuple.get("createdAt", LocalDateTime.class))
+            .createdBy(tuple.get("createdBy", String.class))
+            .modifiedAt(tuple.get("modifiedAt", LocalDateTime.class))
+            .modifiedBy(tuple.get("modifiedBy", String.class))
+            .build();
+    }
+    
     /**
      * Convert DocumentTracker entity to DocumentDetailsDTO with sub-documents
      * @param documentTracker the entity to convert
@@ -83,6 +162,7 @@ public class DocumentTrackerMapper {
             .createdBy(documentTracker.getCreatedBy())
             .modifiedAt(documentTracker.getModifiedAt())
             .modifiedBy(documentTracker.getModifiedBy())
+            .version(documentTracker.getVersion())
             .build();
     }
     
@@ -143,6 +223,31 @@ public class DocumentTrackerMapper {
             .build();
     }
 
+    /**
+     * Convert CreateSubDocumentRequest to SubDocument entity
+     * Sets audit fields: createdAt, createdBy
+     * @param request the request DTO
+     * @param username the user creating the sub-document
+     * @return the entity (attach it with DocumentTracker.addSubDocument)
+     */
+    public SubDocument toSubDocumentEntity(CreateSubDocumentRequest request, String username) {
+        if (request == null) {
+            return null;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        return SubDocument.builder()
+            .subId(request.getSubId())
+            .status(request.getStatus())
+            .statusMessage(request.getStatusMessage())
+            .processedAt(request.getProcessedAt())
+            .createdAt(now)
+            .createdBy(username)
+            .modifiedAt(now)
+            .modifiedBy(username)
+            .build();
+    }
+
     /**
      * Update DocumentTracker entity from UpdateDocumentTrackerRequest
      * Updates fields and sets modified audit fields
@@ -2,33 +2,61 @@ package com.company.ale.documenttracker.service;
 
 import com.company.ale.common.pagination.SearchRequest;
 import com.company.ale.common.pagination.SearchResponse;
-import com.company.ale.common.pagination.PaginationMetadata;
+import com.company.ale.common.filter.NgramIndexRegistry;
+import com.company.ale.common.pagination.SearchExecutor;
+import com.company.ale.common.pagination.SearchPage;
 import com.company.ale.documenttracker.dto.DocumentTrackerDTO;
 import com.company.ale.documenttracker.dto.DocumentDetailsDTO;
+import com.company.ale.documenttracker.dto.BulkCreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.BulkCreateDocumentTrackerResponse;
 import com.company.ale.documenttracker.dto.CreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.CreateSubDocumentRequest;
+import com.company.ale.documenttracker.dto.ExportDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.SubDocumentStatusEventsRequest;
+import com.company.ale.documenttracker.dto.SubDocumentStatusEventsResponse;
 import com.company.ale.documenttracker.dto.UpdateDocumentTrackerRequest;
 import com.company.ale.documenttracker.domain.DocumentTracker;
 import com.company.ale.documenttracker.repository.DocumentTrackerRepository;
+import com.company.ale.common.exception.ConflictException;
 import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.export.ExportService;
+import com.company.ale.common.export.ExportTask;
+import com.company.ale.common.export.ExportWriter;
 import com.company.ale.common.security.AuthorizationService;
 import com.company.ale.common.security.RuleType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 // Document Tracker Service
 // Responsibilities:
 // - Search documents with filters, pagination, sorting (READ)
-// - Get document details with sub-documents (READ)
-// - Create new documents (CREATE)
+// - Get document details with sub-documents (READ), serialized ones from an off-heap cache
+// - Count documents per status (READ, dashboard summary)
+// - Create new documents (CREATE), one at a time or in bulk
 // - Update existing documents (UPDATE)
+// - Accept Sub Document status events from the processing farm (UPDATE, buffered)
 // - Delete documents (DELETE)
+// - Export search results as a streamed file (EXPORT)
 // - Check authorization before all operations
 // - Use Specification pattern for dynamic queries
 // Class-level: @Transactional (allows both read and write operations)
@@ -40,45 +68,75 @@ public class DocumentTrackerService {
     private final DocumentTrackerRepository repository;
     private final AuthorizationService authorizationService;
     private final DocumentTrackerMapper mapper;
+    private final SearchExecutor searchExecutor;
+    private final NgramIndexRegistry ngramIndexes;
+    private final ExportService exportService;
+    private final DocumentTrackerExportSource exportSource;
+    private final EntityManager entityManager;
+    private final SubDocumentStatusBuffer statusBuffer;
+    private final DocumentDetailsCache detailsCache;
+    private final TransactionTemplate transactionTemplate;
+    
+    // Largest bulk ingest request accepted
+    @Value("${ale.document-tracker.bulk.max-documents:5000}")
+    private int bulkMaxDocuments;
+    
+    // Documents persisted between flush/clear; matches the JDBC batch size
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int bulkFlushSize;
+    
+    // GenIds per existence query (keeps the IN list within driver limits)
+    private static final int EXISTING_GEN_ID_CHUNK = 1000;
+    
+    // true: select DTO columns as tuples; false: load managed entities (kept for comparison)
+    @Value("${ale.search.dto-projection:true}")
+    private boolean dtoProjection;
     
     // Search documents with filters
     // Steps:
     // 1. Check authorization (RULE_VIEW)
     // 2. Build Specification from filters
-    // 3. Create Pageable with pagination and sort
-    // 4. Execute query
-    // 5. Map to DTOs and return SearchResponse
+    // 3. Execute query with the requested pagination and count mode
+    // 4. Map to DTOs and return SearchResponse
+    @Transactional(readOnly = true)
     public SearchResponse<DocumentTrackerDTO> search(SearchRequest request) {
         // 1. Authorization check
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         System.out.println("Search filters: " + request.getFilters());
         // 2. Build Specification from filters
-        DocumentTrackerSpecification spec = new DocumentTrackerSpecification(request.getFilters());
-        
-        // 3. Create Pageable
-        Pageable pageable = PageRequest.of(
-            request.getPagination().getPage(), 
-            request.getPagination().getSize(), 
-            SortUtil.toSort(request.getSort())
-        );
-        
-        // 4. Execute query
-        Page<DocumentTracker> page = repository.findAll(spec, pageable);
-        
-        // 5. Map to DTOs and return SearchResponse
-        PaginationMetadata paginationMetadata = PaginationMetadata.builder()
-            .currentPage(page.getNumber())
-            .pageSize(page.getSize())
-            .totalElements(page.getTotalElements())
-            .totalPages(page.getTotalPages())
-            .build();
+        DocumentTrackerSpecification spec = new DocumentTrackerSpecification(request.getFilters(), ngramIndexes.forEntity(DocumentTracker.class));
+        
+        // 3. Execute query (OFFSET or KEYSET, with the requested CountMode)
+        // 4. Map to DTOs (projected rows are already DTOs) and return SearchResponse
+        SearchPage<DocumentTrackerDTO> page;
+        if (dtoProjection) {
+            page = searchExecutor.search(repository, DocumentTracker.class, spec, request, mapper.searchProjection());
+        } else {
+            SearchPage<DocumentTracker> entities = searchExecutor.search(repository, DocumentTracker.class, spec, request);
+            page = entities.map(mapper::toDTO);
+        }
         
         return SearchResponse.<DocumentTrackerDTO>builder()
-            .data(page.map(mapper::toDTO).getContent())
-            .pagination(paginationMetadata)
+            .data(page.getContent())
+            .pagination(page.toMetadata())
             .build();
     }
 
+    // Export documents matching the search filters
+    // Steps:
+    // 1. Resolve the writer and prepare the export (RULE_EXPORT, filter validation)
+    //    now, while errors can still become a normal error response
+    // 2. Return the body that streams every matching row; it runs after the
+    //    controller returns, in its own read-only transaction
+    public StreamingResponseBody export(ExportDocumentTrackerRequest request) {
+        // 1. Writer + prepared export
+        Function<OutputStream, ExportWriter> writerFactory = exportService.writerFactory(request.getFormat());
+        ExportTask task = exportSource.prepare(request.getSearchRequest());
+        
+        // 2. Stream rows to the response
+        return out -> task.writeTo(writerFactory.apply(out), rows -> { });
+    }
+
     // Get document details by GenId
     // Steps:
     // 1. Check authorization (RULE_VIEW)
@@ -90,14 +148,71 @@ public class DocumentTrackerService {
         // 1. Authorization check
         authorizationService.checkPermission(RuleType.RULE_VIEW);
         
-        // 2. Find document by GenId
-        DocumentTracker document = repository.findByGenId(genId)
+        // 2. Find document by GenId, with its sub-documents in the same query
+        DocumentTracker document = repository.findWithSubDocumentsByGenId(genId)
             .orElseThrow(() -> new ResourceNotFoundException("Document not found with GenId: " + genId));
         
         // 3. Map to DocumentDetailsDTO and return
         return mapper.toDetailsDTO(document);
     }
 
+    // Get document details as serialized JSON
+    // Steps:
+    // 1. Check authorization (RULE_VIEW)
+    // 2. Return the cached bytes when the details cache holds the given (current) row and version
+    // 3. Otherwise load the details as getDocumentDetails does, then serialize and cache them;
+    //    the result carries the version actually loaded (the document may have moved on)
+    // Propagation SUPPORTS: a cache hit does not open a transaction
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public DocumentDetailsCache.SerializedDetails getSerializedDocumentDetails(String genId,
+                                                                              DocumentTrackerRepository.VersionRef current) {
+        // 1. Authorization check
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        // 2. Cache hit
+        DocumentDetailsCache.SerializedDetails cached = detailsCache.find(genId, current.getId(), current.getVersion());
+        if (cached != null) {
+            return cached;
+        }
+        
+        // 3. Load, serialize, cache
+        long stamp = detailsCache.writeStamp(genId);
+        DocumentTracker document = repository.findWithSubDocumentsByGenId(genId)
+            .orElseThrow(() -> new ResourceNotFoundException("Document not found with GenId: " + genId));
+        return detailsCache.store(mapper.toDetailsDTO(document), document.getId(), stamp);
+    }
+
+    // Get document counts per status
+    // Steps:
+    // 1. Check authorization (RULE_VIEW)
+    // 2. One grouped count query; statuses sorted by name, documents without status under UNKNOWN
+    @Transactional(readOnly = true)
+    public Map<String, Long> getStatusTotals() {
+        // 1. Authorization check
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        // 2. Grouped count
+        Map<String, Long> totals = new TreeMap<>();
+        for (DocumentTrackerRepository.StatusCount row : repository.countByStatus()) {
+            totals.merge(row.getStatus() != null ? row.getStatus() : "UNKNOWN", row.getTotal(), Long::sum);
+        }
+        return totals;
+    }
+
+    // Get the current row id and version of a document (ETag of the details view, details cache tag)
+    // Steps:
+    // 1. Check authorization (RULE_VIEW)
+    // 2. Select the id and version columns only - the aggregate is not loaded
+    @Transactional(readOnly = true)
+    public DocumentTrackerRepository.VersionRef getDocumentVersion(String genId) {
+        // 1. Authorization check
+        authorizationService.checkPermission(RuleType.RULE_VIEW);
+        
+        // 2. Version lookup
+        return repository.findVersionByGenId(genId)
+            .orElseThrow(() -> new ResourceNotFoundException("Document not found with GenId: " + genId));
+    }
+
     // Create new document
     // Steps:
     // 1. Check authorization (RULE_CREATE)
@@ -129,11 +244,110 @@ public class DocumentTrackerService {
             .modifiedBy(currentUser)
             .build();
         
-        // 5. Save and return
+        // 5. Save and return (a document deleted and re-created under this GenId starts again at version 0)
         DocumentTracker saved = repository.save(document);
+        detailsCache.invalidateAfterCommit(saved.getGenId());
         return mapper.toDTO(saved);
     }
 
+    // Bulk ingest of documents with their sub-documents
+    // Steps:
+    // 1. Check authorization (RULE_CREATE) and request size
+    // 2. Reject GenIds / SubIds repeated within the request
+    // 3. Find already existing GenIds with one set-based query (per 1000 ids); those are skipped
+    // 4. Persist the rest; sequence ids + hibernate.jdbc.batch_size / order_inserts turn
+    //    each flush into a few multi-row JDBC batches
+    // 5. Flush and clear every bulkFlushSize documents so the persistence context stays small
+    // 6. A GenId / SubId inserted concurrently by another request fails the unique constraint:
+    //    steps 3-5 run once more in a new transaction so those GenIds are reported as skipped;
+    //    if it fails again (e.g. a SubId already used by another document) the batch is a 409
+    // Not transactional itself: each attempt commits or rolls back on its own
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateDocumentTrackerResponse bulkCreate(BulkCreateDocumentTrackerRequest request) {
+        // 1. Authorization + size check
+        authorizationService.checkPermission(RuleType.RULE_CREATE);
+        List<CreateDocumentTrackerRequest> documents = request.getDocuments();
+        if (documents.size() > bulkMaxDocuments) {
+            throw new ValidationException("Bulk request has " + documents.size()
+                + " documents, the maximum is " + bulkMaxDocuments, "VAL_015");
+        }
+        
+        // 2. Duplicates within the request
+        List<String> genIds = new ArrayList<>(documents.size());
+        Set<String> seenGenIds = new HashSet<>();
+        Set<String> seenSubIds = new HashSet<>();
+        for (CreateDocumentTrackerRequest document : documents) {
+            if (!seenGenIds.add(document.getGenId())) {
+                throw new ValidationException("GenId " + document.getGenId() + " appears more than once in the request", "VAL_016");
+            }
+            genIds.add(document.getGenId());
+            if (document.getSubDocuments() != null) {
+                for (CreateSubDocumentRequest subDocument : document.getSubDocuments()) {
+                    if (!seenSubIds.add(subDocument.getSubId())) {
+                        throw new ValidationException("SubId " + subDocument.getSubId() + " appears more than once in the request", "VAL_016");
+                    }
+                }
+            }
+        }
+        
+        // 3-6. Insert, once more if a concurrent insert hit a unique constraint
+        String currentUser = getCurrentUser();
+        try {
+            return transactionTemplate.execute(status -> insertNew(documents, genIds, currentUser));
+        } catch (DataIntegrityViolationException first) {
+            try {
+                return transactionTemplate.execute(status -> insertNew(documents, genIds, currentUser));
+            } catch (DataIntegrityViolationException second) {
+                throw new ConflictException("Bulk request conflicts with existing documents or sub-documents"
+                    + " (duplicate GenId or SubId), nothing was created", "DUPLICATE_RESOURCE");
+            }
+        }
+    }
+
+    // Steps 3-5 of bulkCreate, in the caller's transaction
+    // repository.flush() (not entityManager.flush()) so a unique constraint failure is
+    // translated to DataIntegrityViolationException
+    private BulkCreateDocumentTrackerResponse insertNew(List<CreateDocumentTrackerRequest> documents,
+                                                        List<String> genIds, String currentUser) {
+        // 3. Existing GenIds
+        Set<String> existing = new LinkedHashSet<>();
+        for (int from = 0; from < genIds.size(); from += EXISTING_GEN_ID_CHUNK) {
+            existing.addAll(repository.findExistingGenIds(
+                genIds.subList(from, Math.min(from + EXISTING_GEN_ID_CHUNK, genIds.size()))));
+        }
+        
+        // 4-5. Persist in flush-sized batches
+        int created = 0;
+        int subDocumentCount = 0;
+        for (CreateDocumentTrackerRequest documentRequest : documents) {
+            if (existing.contains(documentRequest.getGenId())) {
+                continue;
+            }
+            DocumentTracker document = mapper.toEntity(documentRequest, currentUser);
+            document.setSubDocuments(new ArrayList<>());
+            if (documentRequest.getSubDocuments() != null) {
+                for (CreateSubDocumentRequest subDocument : documentRequest.getSubDocuments()) {
+                    document.addSubDocument(mapper.toSubDocumentEntity(subDocument, currentUser));
+                    subDocumentCount++;
+                }
+            }
+            entityManager.persist(document);
+            if (++created % bulkFlushSize == 0) {
+                repository.flush();
+                entityManager.clear();
+            }
+        }
+        repository.flush();
+        entityManager.clear();
+        detailsCache.invalidateAfterCommit(genIds);
+        
+        return BulkCreateDocumentTrackerResponse.builder()
+            .createdCount(created)
+            .subDocumentCount(subDocumentCount)
+            .skippedGenIds(List.copyOf(existing))
+            .build();
+    }
+
     // Update existing document
     // Steps:
     // 1. Check authorization (RULE_UPDATE)
@@ -162,9 +376,28 @@ public class DocumentTrackerService {
         
         // 5. Save and return
         DocumentTracker updated = repository.save(document);
+        detailsCache.invalidateAfterCommit(genId);
         return mapper.toDTO(updated);
     }
 
+    // Accept Sub Document status events
+    // Steps:
+    // 1. Check authorization (RULE_UPDATE)
+    // 2. Hand the events to the status buffer (429 when it is full); they are
+    //    written on the next flush, so no transaction is needed here
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SubDocumentStatusEventsResponse acceptStatusEvents(SubDocumentStatusEventsRequest request) {
+        // 1. Authorization check
+        authorizationService.checkPermission(RuleType.RULE_UPDATE);
+        
+        // 2. Buffer
+        int pending = statusBuffer.offer(request.getEvents(), getCurrentUser());
+        return SubDocumentStatusEventsResponse.builder()
+            .acceptedCount(request.getEvents().size())
+            .pendingCount(pending)
+            .build();
+    }
+
     // Delete document by GenId
     // Steps:
     // 1. Check authorization (RULE_DELETE)
@@ -176,11 +409,12 @@ public class DocumentTrackerService {
         authorizationService.checkPermission(RuleType.RULE_DELETE);
         
         // 2. Find document
-        DocumentTracker document = repository.findByGenId(genId)
+        DocumentTracker document = repository.findWithSubDocumentsByGenId(genId)
             .orElseThrow(() -> new ResourceNotFoundException("Document not found with GenId: " + genId));
         
         // 3. Delete
         repository.delete(document);
+        detailsCache.invalidateAfterCommit(genId);
     }
 
     // Helper method to get current authenticated user
@@ -0,0 +1,214 @@
+package com.company.ale.documenttracker.service;
+
+import com.company.ale.common.exception.TooManyRequestsException;
+import com.company.ale.documenttracker.domain.SubIdStatus;
+import com.company.ale.documenttracker.dto.SubDocumentStatusEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Sub Document status event buffer
+// Used by POST /api/document-tracker/sub-documents/status-events
+// - Events are held in memory, one entry per SubId: a newer event for the same SubId
+//   replaces the pending one, except that PROCESS_COMPLETED is never replaced
+// - The buffer is bounded by distinct SubIds; a request that would overflow it is
+//   rejected as a whole with 429 (TooManyRequestsException) so the sender backs off
+// - Every flush interval the pending entries are swapped out and written as JDBC
+//   batched UPDATEs, one transaction per batch. The WHERE clause skips rows already
+//   PROCESS_COMPLETED (immutable once completed), so no entity is loaded and the
+//   SubDocument @PreUpdate guard is not involved
+// - The parent document's version is bumped for every SubId actually updated, so the
+//   ETag of its details view changes with its sub-documents, and its serialized details
+//   are dropped from DocumentDetailsCache once the batch commits
+// - A batch the database rejects is put back (unless a newer event arrived meanwhile)
+//   and retried on the next flush; events for unknown SubIds are dropped
+//
+// Configuration is read from application.properties:
+// - ale.document-tracker.status-events.capacity: Distinct SubIds buffered before 429 (default: 50000)
+// - ale.document-tracker.status-events.flush-interval-ms: Delay between flushes (default: 500)
+// - ale.document-tracker.status-events.batch-size: Rows per batched UPDATE / transaction (default: 1000)
+@Component
+@Slf4j
+public class SubDocumentStatusBuffer {
+
+    private static final String UPDATE_SQL =
+        "UPDATE sub_document SET status = ?, status_message = ?, processed_at = ?, modified_at = ?, modified_by = ? "
+        + "WHERE sub_id = ? AND status <> 'PROCESS_COMPLETED'";
+
+    private static final String TOUCH_PARENTS_SQL =
+        "UPDATE document_tracker SET version = version + 1 "
+        + "WHERE id IN (SELECT gen_id FROM sub_document WHERE sub_id IN (:subIds))";
+
+    private static final String PARENT_GEN_IDS_SQL =
+        "SELECT DISTINCT d.gen_id FROM document_tracker d JOIN sub_document s ON s.gen_id = d.id "
+        + "WHERE s.sub_id IN (:subIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentDetailsCache detailsCache;
+    private final int capacity;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+
+    // Guards pending; a flush swaps the map out instead of holding the lock while writing
+    private final Object lock = new Object();
+    private Map<String, PendingStatus> pending = new HashMap<>();
+
+    // One flush at a time, so an older entry is never written after a newer one
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SubDocumentStatusBuffer(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   DocumentDetailsCache detailsCache,
+                                   @Value("${ale.document-tracker.status-events.capacity:50000}") int capacity,
+                                   @Value("${ale.document-tracker.status-events.batch-size:1000}") int batchSize,
+                                   @Value("${ale.document-tracker.status-events.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.detailsCache = detailsCache;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = Math.max(1, (flushIntervalMs + 999) / 1000);
+    }
+
+    // Buffer the events, in request order
+    // Returns the number of distinct SubIds now pending
+    public int offer(List<SubDocumentStatusEvent> events, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (lock) {
+            long added = events.stream()
+                .map(SubDocumentStatusEvent::getSubId)
+                .distinct()
+                .filter(subId -> !pending.containsKey(subId))
+                .count();
+            if (pending.size() + added > capacity) {
+                throw new TooManyRequestsException("Sub-document status buffer is full, please retry later", retryAfterSeconds);
+            }
+            for (SubDocumentStatusEvent event : events) {
+                PendingStatus status = new PendingStatus(event.getStatus(), event.getStatusMessage(),
+                    event.getProcessedAt() != null ? event.getProcessedAt() : now, now, username);
+                pending.merge(event.getSubId(), status, PendingStatus::coalesce);
+            }
+            return pending.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ale.document-tracker.status-events.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<String, PendingStatus> batch;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new HashMap<>();
+            }
+
+            // SubId order keeps row locks acquired in the same order as other batches
+            List<Map.Entry<String, PendingStatus>> entries = new ArrayList<>(batch.entrySet());
+            entries.sort(Map.Entry.comparingByKey());
+            int updated = 0;
+            int requeued = 0;
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<Map.Entry<String, PendingStatus>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+                try {
+                    updated += write(chunk);
+                } catch (DataAccessException | TransactionException e) {
+                    log.warn("Sub-document status batch of {} failed, retrying on next flush: {}", chunk.size(), e.getMessage());
+                    requeued += requeue(chunk);
+                }
+            }
+            log.debug("Sub-document status flush: {} SubIds, {} updated, {} requeued", entries.size(), updated, requeued);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Write what is still pending on shutdown
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private int write(List<Map.Entry<String, PendingStatus>> chunk) {
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (Map.Entry<String, PendingStatus> entry : chunk) {
+            PendingStatus status = entry.getValue();
+            args.add(new Object[] {
+                status.getStatus().name(), status.getStatusMessage(), status.getProcessedAt(),
+                status.getReceivedAt(), status.getUsername(), entry.getKey()
+            });
+        }
+        List<String> parentGenIds = new ArrayList<>();
+        int[] counts = transactionTemplate.execute(tx -> {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count: touch those parents too
+            List<String> touched = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] != 0) {
+                    touched.add(chunk.get(i).getKey());
+                }
+            }
+            if (!touched.isEmpty()) {
+                Map<String, List<String>> params = Map.of("subIds", touched);
+                namedJdbcTemplate.update(TOUCH_PARENTS_SQL, params);
+                parentGenIds.addAll(namedJdbcTemplate.queryForList(PARENT_GEN_IDS_SQL, params, String.class));
+            }
+            return updated;
+        });
+        detailsCache.invalidate(parentGenIds);
+        return counts == null ? 0 : Arrays.stream(counts).filter(count -> count > 0).sum();
+    }
+
+    // Put a failed batch back behind anything newer, as long as there is room
+    private int requeue(List<Map.Entry<String, PendingStatus>> chunk) {
+        int requeued = 0;
+        synchronized (lock) {
+            for (Map.Entry<String, PendingStatus> entry : chunk) {
+                if (pending.containsKey(entry.getKey()) || pending.size() < capacity) {
+                    pending.merge(entry.getKey(), entry.getValue(), (newer, older) -> PendingStatus.coalesce(older, newer));
+                    requeued++;
+                }
+            }
+        }
+        if (requeued < chunk.size()) {
+            log.warn("Sub-document status buffer full, dropped {} failed updates", chunk.size() - requeued);
+        }
+        return requeued;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class PendingStatus {
+        private final SubIdStatus status;
+        private final String statusMessage;
+        private final LocalDateTime processedAt;
+        private final LocalDateTime receivedAt;
+        private final String username;
+
+        // PROCESS_COMPLETED is final, otherwise the newer event wins
+        static PendingStatus coalesce(PendingStatus older, PendingStatus newer) {
+            return older.getStatus() == SubIdStatus.PROCESS_COMPLETED ? older : newer;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.ale.export.controller;
+
+import com.company.ale.export.domain.ExportJob;
+import com.company.ale.export.dto.ExportJobRequest;
+import com.company.ale.export.dto.ExportJobResponse;
+import com.company.ale.export.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * REST Controller for asynchronous export jobs
+ * Base path: /api/export-jobs
+ */
+@RestController
+@RequestMapping("/api/export-jobs")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Export Jobs", description = "Asynchronous export APIs")
+public class ExportJobController {
+
+    // Tomcat sendfile request attributes (zero-copy from the file to the socket)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ExportJobService service;
+
+    /**
+     * Submit an export job
+     * POST /api/export-jobs
+     */
+    @Operation(summary = "Submit export job",
+               description = "Start exporting the search results of a module; poll the returned job for progress")
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> submit(@Valid @RequestBody ExportJobRequest request) {
+        ExportJobResponse response = service.submit(request);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/export-jobs/" + response.getJobId()))
+            .body(response);
+    }
+
+    /**
+     * Get export job status and progress
+     * GET /api/export-jobs/{jobId}
+     */
+    @Operation(summary = "Get export job", description = "Status, rows written so far and download link when completed")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(service.getJob(jobId));
+    }
+
+    /**
+     * Download the file of a completed job
+     * GET /api/export-jobs/{jobId}/download
+     * Supports a single byte Range so interrupted downloads can resume
+     */
+    @Operation(summary = "Download export file", description = "Supports HTTP Range requests (single range)")
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable String jobId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        ExportJob job = service.getDownload(jobId);
+        Path file = job.getFile();
+        long length = Files.size(file);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(job.getFormat().getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(job.getFileName()).build().toString());
+
+        long start = 0;
+        long end = length - 1;
+        List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+        // Multiple ranges are not supported; the full file is sent instead (allowed by RFC 9110)
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (count > 0) {
+                long sent = channel.transferTo(position, count, target);
+                position += sent;
+                count -= sent;
+            }
+        }
+    }
+
+    private List<HttpRange> parseRanges(String header) {
+        if (header == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(header);
+        } catch (IllegalArgumentException e) {
+            // A malformed Range header is ignored (full content)
+            return List.of();
+        }
+    }
+}
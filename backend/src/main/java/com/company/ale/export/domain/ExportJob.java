@@ -0,0 +1,48 @@
+package com.company.ale.export.domain;
+
+import com.company.ale.common.export.ExportFormat;
+import com.company.ale.common.export.ExportModule;
+import lombok.Getter;
+import lombok.Setter;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Asynchronous export job (kept in memory, not persisted)
+ * Progress fields are updated by the worker thread and read by pollers
+ */
+@Getter
+public class ExportJob {
+
+    private final String id;
+    private final ExportModule module;
+    private final ExportFormat format;
+    private final String owner;
+    private final String fileName;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    @Setter
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+
+    @Setter
+    private volatile long rowsWritten;
+
+    @Setter
+    private volatile long sizeBytes;
+
+    @Setter
+    private volatile LocalDateTime completedAt;
+
+    @Setter
+    private volatile String error;
+
+    public ExportJob(String id, ExportModule module, ExportFormat format, String owner, String fileName, Path file) {
+        this.id = id;
+        this.module = module;
+        this.format = format;
+        this.owner = owner;
+        this.fileName = fileName;
+        this.file = file;
+    }
+}
@@ -0,0 +1,11 @@
+package com.company.ale.export.domain;
+
+/**
+ * Lifecycle of an asynchronous export job
+ */
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,29 @@
+package com.company.ale.export.dto;
+
+import com.company.ale.common.export.ExportFormat;
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.common.pagination.SearchRequest;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for submitting an export job
+ * Used by POST /api/export-jobs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobRequest {
+
+    @NotNull(message = "Module is required")
+    private ExportModule module;
+
+    // Search criteria (filters, sort); pagination is ignored, every matching row is exported
+    @NotNull(message = "Search parameters are required")
+    private SearchRequest searchRequest;
+
+    @NotNull(message = "Export format is required")
+    private ExportFormat format;
+}
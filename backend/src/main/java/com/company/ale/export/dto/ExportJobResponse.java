@@ -0,0 +1,27 @@
+package com.company.ale.export.dto;
+
+import com.company.ale.common.export.ExportFormat;
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.export.domain.ExportJobStatus;
+import lombok.Builder;
+import lombok.Value;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for export job status
+ */
+@Value
+@Builder
+public class ExportJobResponse {
+    String jobId;
+    ExportModule module;
+    ExportFormat format;
+    ExportJobStatus status;
+    long rowsWritten;
+    long sizeBytes;
+    LocalDateTime createdAt;
+    LocalDateTime completedAt;
+    String error;
+    // Present once the job is COMPLETED
+    String downloadUrl;
+}
@@ -0,0 +1,270 @@
+package com.company.ale.export.service;
+
+import com.company.ale.common.exception.ResourceNotFoundException;
+import com.company.ale.common.exception.TooManyRequestsException;
+import com.company.ale.common.exception.ValidationException;
+import com.company.ale.common.export.ExportModule;
+import com.company.ale.common.export.ExportService;
+import com.company.ale.common.export.ExportSource;
+import com.company.ale.common.export.ExportTask;
+import com.company.ale.common.export.ExportWriter;
+import com.company.ale.export.domain.ExportJob;
+import com.company.ale.export.domain.ExportJobStatus;
+import com.company.ale.export.dto.ExportJobRequest;
+import com.company.ale.export.dto.ExportJobResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Service for asynchronous export jobs
+ * Jobs run on a bounded worker pool and spool their file to a local directory;
+ * finished files expire after a retention period, and the oldest are evicted
+ * early when the spool directory exceeds its disk quota.
+ *
+ * Configuration is read from application.properties:
+ * - ale.export.jobs.directory: Spool directory (default: ${java.io.tmpdir}/ale-exports)
+ * - ale.export.jobs.workers: Concurrent export jobs (default: 2)
+ * - ale.export.jobs.queue-capacity: Jobs waiting for a worker before submissions get 429 (default: 20)
+ * - ale.export.jobs.retention: How long finished files stay downloadable (default: PT1H)
+ * - ale.export.jobs.disk-quota-bytes: Total size of finished files kept (default: 10 GB)
+ */
+@Service
+@Slf4j
+public class ExportJobService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final Map<ExportModule, ExportSource> sources = new EnumMap<>(ExportModule.class);
+    private final ExportService exportService;
+    private final ConcurrentMap<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final Path directory;
+    private final Duration retention;
+    private final long diskQuotaBytes;
+    // Quota enforcement deletes files: a lock rather than a monitor, so a virtual thread
+    // waiting on disk I/O here does not pin its carrier thread
+    private final ReentrantLock quotaLock = new ReentrantLock();
+
+    public ExportJobService(List<ExportSource> sources,
+                            ExportService exportService,
+                            @Value("${ale.export.jobs.directory:${java.io.tmpdir}/ale-exports}") String directory,
+                            @Value("${ale.export.jobs.workers:2}") int workers,
+                            @Value("${ale.export.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${ale.export.jobs.retention:PT1H}") Duration retention,
+                            @Value("${ale.export.jobs.disk-quota-bytes:10737418240}") long diskQuotaBytes) {
+        for (ExportSource source : sources) {
+            this.sources.put(source.getModule(), source);
+        }
+        this.exportService = exportService;
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+        this.diskQuotaBytes = diskQuotaBytes;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "export-job-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        prepareDirectory();
+    }
+
+    /**
+     * Submit an export job
+     * Authorization and filter validation run now, on the request thread
+     */
+    public ExportJobResponse submit(ExportJobRequest request) {
+        ExportSource source = sources.get(request.getModule());
+        if (source == null) {
+            throw new ValidationException("Export is not supported for module: " + request.getModule(), "VAL_013");
+        }
+        Function<OutputStream, ExportWriter> writerFactory = exportService.writerFactory(request.getFormat());
+        ExportTask task = source.prepare(request.getSearchRequest());
+
+        String id = UUID.randomUUID().toString();
+        String fileName = source.getFileName() + "." + request.getFormat().getExtension();
+        ExportJob job = new ExportJob(id, request.getModule(), request.getFormat(), getCurrentUser(),
+            fileName, directory.resolve(id + "." + request.getFormat().getExtension()));
+
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job, task, writerFactory));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new TooManyRequestsException("Too many export jobs are queued, please retry later", 30);
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Current state of a job owned by the caller
+     */
+    public ExportJobResponse getJob(String jobId) {
+        return toResponse(findOwnJob(jobId));
+    }
+
+    /**
+     * Completed job whose file can be downloaded
+     */
+    public ExportJob getDownload(String jobId) {
+        ExportJob job = findOwnJob(jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED || !Files.exists(job.getFile())) {
+            throw new ValidationException("Export job " + jobId + " has no file to download (status " + job.getStatus() + ")", "VAL_014");
+        }
+        return job;
+    }
+
+    /**
+     * Drop finished jobs past their retention, then enforce the disk quota
+     */
+    @Scheduled(fixedDelayString = "${ale.export.jobs.cleanup-interval-ms:60000}")
+    public void expireJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        for (ExportJob job : jobs.values()) {
+            if (job.getCompletedAt() != null && job.getCompletedAt().isBefore(cutoff)) {
+                evict(job);
+            }
+        }
+        enforceQuota();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ExportJob job, ExportTask task, Function<OutputStream, ExportWriter> writerFactory) {
+        job.setStatus(ExportJobStatus.RUNNING);
+        Path part = job.getFile().resolveSibling(job.getFile().getFileName() + PART_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(part)) {
+                long rows = task.writeTo(writerFactory.apply(out), job::setRowsWritten);
+                job.setRowsWritten(rows);
+            }
+            Files.move(part, job.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.setSizeBytes(Files.size(job.getFile()));
+            job.setCompletedAt(LocalDateTime.now());
+            job.setStatus(ExportJobStatus.COMPLETED);
+            log.info("Export job {} completed: {} rows, {} bytes", job.getId(), job.getRowsWritten(), job.getSizeBytes());
+        } catch (Exception e) {
+            log.error("Export job {} failed", job.getId(), e);
+            deleteQuietly(part);
+            job.setError(e.getMessage());
+            job.setCompletedAt(LocalDateTime.now());
+            job.setStatus(ExportJobStatus.FAILED);
+        }
+        enforceQuota();
+    }
+
+    // Oldest finished files go first until the spool fits the quota
+    private void enforceQuota() {
+        quotaLock.lock();
+        try {
+            List<ExportJob> completed = jobs.values().stream()
+                .filter(job -> job.getStatus() == ExportJobStatus.COMPLETED)
+                .sorted(Comparator.comparing(ExportJob::getCompletedAt))
+                .toList();
+            long used = completed.stream().mapToLong(ExportJob::getSizeBytes).sum();
+            for (ExportJob job : completed) {
+                if (used <= diskQuotaBytes) {
+                    break;
+                }
+                used -= job.getSizeBytes();
+                log.info("Export job {} evicted to stay within the disk quota", job.getId());
+                evict(job);
+            }
+        } finally {
+            quotaLock.unlock();
+        }
+    }
+
+    private void evict(ExportJob job) {
+        jobs.remove(job.getId());
+        deleteQuietly(job.getFile());
+    }
+
+    private ExportJob findOwnJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getOwner().equals(getCurrentUser())) {
+            throw new ResourceNotFoundException("Export job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        return ExportJobResponse.builder()
+            .jobId(job.getId())
+            .module(job.getModule())
+            .format(job.getFormat())
+            .status(job.getStatus())
+            .rowsWritten(job.getRowsWritten())
+            .sizeBytes(job.getSizeBytes())
+            .createdAt(job.getCreatedAt())
+            .completedAt(job.getCompletedAt())
+            .error(job.getError())
+            .downloadUrl(job.getStatus() == ExportJobStatus.COMPLETED
+                ? "/api/export-jobs/" + job.getId() + "/download"
+                : null)
+            .build();
+    }
+
+    // Jobs do not survive a restart, so files left in the spool directory are orphans
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare export directory " + directory, e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Helper method to get current authenticated user
+    private String getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "SYSTEM";
+    }
+}
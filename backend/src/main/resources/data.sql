@@ -6,43 +6,43 @@ INSERT INTO document_tracker (gen_id, document_name, document_date, document_typ
 VALUES ('GEN00000001', 'Invoice Q1-2026-001', '2026-01-15', 'INVOICE', 'Acme Corporation', 'ALE-000001', 'ACC-2026-001', 'SEC-INV-001', 'COMPLETED', 'Archive-01', 'Finance', 'http://docs.example.com/invoice/001', '2026-01-15 10:30:00', '2026-01-15 10:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (1, 'GEN00000001_SUB_1', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-15 11:00:00', '2026-01-15 11:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000001'), 'GEN00000001_SUB_1', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-15 11:00:00', '2026-01-15 11:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (1, 'GEN00000001_SUB_2', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-15 12:00:00', '2026-01-15 12:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000001'), 'GEN00000001_SUB_2', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-15 12:00:00', '2026-01-15 12:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 -- Document 2
 INSERT INTO document_tracker (gen_id, document_name, document_date, document_type, client_name, ale_gen_id, account_number, security_number, status, current_location, business_unit, link, received_at, created_at, created_by, modified_at, modified_by)
 VALUES ('GEN00000002', 'PO #2026-5678', '2026-01-16', 'PO', 'Tech Solutions Inc', 'ALE-000002', 'ACC-2026-002', 'SEC-PO-002', 'PROCESSING', 'Processing-02', 'Procurement', 'http://docs.example.com/po/002', '2026-01-16 14:15:00', '2026-01-16 14:15:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (2, 'GEN00000002_SUB_1', 'IN_PROGRESS', 'Processing in progress', '2026-01-16 14:30:00', '2026-01-16 14:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000002'), 'GEN00000002_SUB_1', 'IN_PROGRESS', 'Processing in progress', '2026-01-16 14:30:00', '2026-01-16 14:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (2, 'GEN00000002_SUB_2', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-16 15:45:00', '2026-01-16 15:45:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000002'), 'GEN00000002_SUB_2', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-16 15:45:00', '2026-01-16 15:45:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 -- Document 3
 INSERT INTO document_tracker (gen_id, document_name, document_date, document_type, client_name, ale_gen_id, account_number, security_number, status, current_location, business_unit, link, received_at, created_at, created_by, modified_at, modified_by)
 VALUES ('GEN00000003', 'Receipt #REC-789456', '2026-01-17', 'RECEIPT', 'Global Trading Ltd', 'ALE-000003', 'ACC-2026-003', 'SEC-REC-003', 'FAILED', 'Rejected-03', 'Operations', 'http://docs.example.com/receipt/003', '2026-01-17 09:20:00', '2026-01-17 09:20:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (3, 'GEN00000003_SUB_1', 'PROCESS_FAILED', 'Failed validation check', '2026-01-17 09:45:00', '2026-01-17 09:45:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000003'), 'GEN00000003_SUB_1', 'PROCESS_FAILED', 'Failed validation check', '2026-01-17 09:45:00', '2026-01-17 09:45:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (3, 'GEN00000003_SUB_2', 'IN_PROGRESS', 'Pending manual review', '2026-01-17 10:30:00', '2026-01-17 10:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000003'), 'GEN00000003_SUB_2', 'IN_PROGRESS', 'Pending manual review', '2026-01-17 10:30:00', '2026-01-17 10:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (3, 'GEN00000003_SUB_3', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-17 11:00:00', '2026-01-17 11:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000003'), 'GEN00000003_SUB_3', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-17 11:00:00', '2026-01-17 11:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 -- Document 4
 INSERT INTO document_tracker (gen_id, document_name, document_date, document_type, client_name, ale_gen_id, account_number, security_number, status, current_location, business_unit, link, received_at, created_at, created_by, modified_at, modified_by)
 VALUES ('GEN00000004', 'Shipping Label SHP-001', '2026-01-18', 'SHIPPING', 'Express Logistics', 'ALE-000004', 'ACC-2026-004', 'SEC-SHIP-004', 'COMPLETED', 'Archive-04', 'Logistics', 'http://docs.example.com/shipping/004', '2026-01-18 13:45:00', '2026-01-18 13:45:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (4, 'GEN00000004_SUB_1', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-18 14:00:00', '2026-01-18 14:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000004'), 'GEN00000004_SUB_1', 'PROCESS_COMPLETED', 'Document validated against rules', '2026-01-18 14:00:00', '2026-01-18 14:00:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
-VALUES (4, 'GEN00000004_SUB_2', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-18 14:30:00', '2026-01-18 14:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
+VALUES ((SELECT id FROM document_tracker WHERE gen_id = 'GEN00000004'), 'GEN00000004_SUB_2', 'PROCESS_COMPLETED', 'Processing completed successfully', '2026-01-18 14:30:00', '2026-01-18 14:30:00', 'TEST_USER', '2026-02-12 15:45:00', 'TEST_USER');
 
 -- Document 5-50 (Batch insert with meaningful sample data)
 INSERT INTO document_tracker (gen_id, document_name, document_date, document_type, client_name, ale_gen_id, account_number, security_number, status, current_location, business_unit, link, received_at, created_at, created_by, modified_at, modified_by)
@@ -146,13 +146,13 @@ VALUES ('GEN00000050', 'Lease Agreement CNT-50', '2026-01-24', 'CONTRACT', 'Prop
 -- Add sub-documents for all remaining records
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
 SELECT id, CONCAT(gen_id, '_SUB_1'), 'PROCESS_COMPLETED', 'Processing completed successfully', received_at, created_at, created_by, modified_at, modified_by
-FROM document_tracker WHERE id > 4 AND id <= 50;
+FROM document_tracker WHERE gen_id > 'GEN00000004' AND gen_id <= 'GEN00000050';
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
 SELECT id, CONCAT(gen_id, '_SUB_2'), 'IN_PROGRESS', 'Document validated against rules', received_at, created_at, created_by, modified_at, modified_by
-FROM document_tracker WHERE id > 4 AND id <= 30;
+FROM document_tracker WHERE gen_id > 'GEN00000004' AND gen_id <= 'GEN00000030';
 
 INSERT INTO sub_document (gen_id, sub_id, status, status_message, processed_at, created_at, created_by, modified_at, modified_by)
 SELECT id, CONCAT(gen_id, '_SUB_3'), 'PROCESS_FAILED', 'Failed validation check', received_at, created_at, created_by, modified_at, modified_by
-FROM document_tracker WHERE id > 4 AND id <= 50 AND MOD(id, 3) = 0;
+FROM document_tracker WHERE gen_id > 'GEN00000004' AND gen_id <= 'GEN00000050' AND MOD(CAST(SUBSTRING(gen_id, 4) AS INT), 3) = 0;
 
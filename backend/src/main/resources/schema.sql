@@ -2,9 +2,13 @@
 -- H2 Database initialization script
 -- Automatically executed on application startup
 
+-- Id sequences for document_tracker / sub_document (pooled by Hibernate, allocationSize = 50)
+CREATE SEQUENCE IF NOT EXISTS document_tracker_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sub_document_seq START WITH 1 INCREMENT BY 50;
+
 -- Create document_tracker table
 CREATE TABLE IF NOT EXISTS document_tracker (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT DEFAULT NEXT VALUE FOR document_tracker_seq PRIMARY KEY,
     gen_id VARCHAR(255) NOT NULL UNIQUE,
     document_name VARCHAR(255),
     document_date DATE,
@@ -21,12 +25,13 @@ CREATE TABLE IF NOT EXISTS document_tracker (
     created_at TIMESTAMP NOT NULL,
     created_by VARCHAR(255) NOT NULL,
     modified_at TIMESTAMP,
-    modified_by VARCHAR(255)
+    modified_by VARCHAR(255),
+    version INT DEFAULT 0 NOT NULL
 );
 
 -- Create sub_document table with foreign key to document_tracker
 CREATE TABLE IF NOT EXISTS sub_document (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT DEFAULT NEXT VALUE FOR sub_document_seq PRIMARY KEY,
     gen_id BIGINT NOT NULL,
     sub_id VARCHAR(255) NOT NULL UNIQUE,
     status VARCHAR(50) NOT NULL,
@@ -60,6 +65,7 @@ CREATE TABLE IF NOT EXISTS capital_call (
     queue VARCHAR(50) NOT NULL,
     locked_by VARCHAR(255),
     locked_at TIMESTAMP,
+    lock_expires_at TIMESTAMP,
     client_name VARCHAR(255),
     asset_description VARCHAR(500),
     is_sensitive BOOLEAN,
@@ -88,6 +94,7 @@ CREATE INDEX IF NOT EXISTS idx_capital_call_ale_batch_id ON capital_call(ale_bat
 CREATE INDEX IF NOT EXISTS idx_capital_call_workflow_status ON capital_call(workflow_status);
 CREATE INDEX IF NOT EXISTS idx_capital_call_queue ON capital_call(queue);
 CREATE INDEX IF NOT EXISTS idx_capital_call_created_by ON capital_call(created_by);
+CREATE INDEX IF NOT EXISTS idx_capital_call_lock_expires_at ON capital_call(lock_expires_at);
 CREATE INDEX IF NOT EXISTS idx_capital_call_from_date ON capital_call(from_date);
 CREATE INDEX IF NOT EXISTS idx_capital_call_to_date ON capital_call(to_date);
 CREATE INDEX IF NOT EXISTS idx_capital_call_breakdown_id ON capital_call_breakdown(capital_call_id);
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.company.ale.alternativedata.service;
+
+import com.company.ale.alternativedata.dto.FeedLoadRequest;
+import com.company.ale.alternativedata.dto.FeedLoadResponse;
+import com.company.ale.common.security.AuthorizationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AlternativeDataFeedLoaderTest {
+
+	@TempDir
+	Path directory;
+
+	private AlternativeDataFeedWriter writer;
+	private AlternativeDataFeedLoader loader;
+	private final List<AlternativeDataFeedRow> written = Collections.synchronizedList(new ArrayList<>());
+
+	@BeforeEach
+	void setUp() {
+		writer = mock(AlternativeDataFeedWriter.class);
+		when(writer.upsert(anyList(), anySet(), anyString())).thenAnswer(invocation -> {
+			List<AlternativeDataFeedRow> rows = invocation.getArgument(0);
+			written.addAll(rows);
+			return rows.size();
+		});
+		// 40-byte chunks and 2-row batches: a few lines per chunk, parsed on 4 threads
+		loader = new AlternativeDataFeedLoader(writer, mock(AuthorizationService.class), directory.toString(), 40, 2, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		loader.shutdown();
+	}
+
+	@Test
+	void parsesQuotedFields() {
+		assertThat(AlternativeDataFeedLoader.parseCsvLine("a,\"b,c\",\"say \"\"hi\"\"\",,"))
+			.containsExactly("a", "b,c", "say \"hi\"", "", "");
+		assertThatThrownBy(() -> AlternativeDataFeedLoader.parseCsvLine("a,\"b"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void lastLineOfAKeyWinsAcrossChunks() throws IOException {
+		feed("clientName,accountNumber,reportDate,navValue",
+			"Acme,A1,2024-01-31,1",
+			"Globex,G1,2024-01-31,2",
+			"Acme,A1,2024-01-31,3",
+			"",
+			"Initech,I1,2024-01-31,4",
+			"Acme,A1,2024-01-31,5");
+
+		FeedLoadResponse response = load();
+
+		assertThat(written).extracting(AlternativeDataFeedRow::getClientName, AlternativeDataFeedRow::getNavValue,
+				AlternativeDataFeedRow::getLineNumber)
+			.containsExactlyInAnyOrder(
+				tuple("Globex", "2", 3L),
+				tuple("Initech", "4", 6L),
+				tuple("Acme", "5", 7L));
+		assertThat(response.getRowsRead()).isEqualTo(5);
+		assertThat(response.getInserted()).isEqualTo(3);
+		assertThat(response.getUpdated()).isZero();
+		assertThat(response.getSuperseded()).isEqualTo(2);
+		assertThat(response.getRejected()).isZero();
+		assertThat(response.getRejectsFile()).isNull();
+	}
+
+	@Test
+	void rejectsAreWrittenWithAbsoluteLineNumbers() throws IOException {
+		Files.writeString(directory.resolve("feed.csv.rejects.csv"), "stale");
+		feed("clientName,accountNumber,reportDate",
+			"Acme,A1,2024-01-31",
+			"Acme,A1,2024-13-01",
+			"Globex,G1,2024-01-31",
+			"Globex,G1",
+			"Initech,I1,2024-01-31");
+
+		FeedLoadResponse response = load();
+
+		assertThat(written).hasSize(3);
+		assertThat(response.getRejected()).isEqualTo(2);
+		assertThat(response.getRejectsFile()).isEqualTo("feed.csv.rejects.csv");
+		List<String> rejects = Files.readAllLines(directory.resolve("feed.csv.rejects.csv"));
+		assertThat(rejects.get(0)).isEqualTo("line,reason,content");
+		assertThat(rejects.subList(1, rejects.size()))
+			.anySatisfy(line -> assertThat(line).startsWith("3,").endsWith(",\"Acme,A1,2024-13-01\""))
+			.anySatisfy(line -> assertThat(line).isEqualTo("5,\"Expected 3 fields, found 2\",\"Globex,G1\""))
+			.hasSize(2);
+	}
+
+	@Test
+	void failedBatchRejectsItsRows() throws IOException {
+		when(writer.upsert(anyList(), anySet(), anyString())).thenThrow(new DataIntegrityViolationException("value too long"));
+		feed("clientName,accountNumber,reportDate",
+			"Acme,A1,2024-01-31");
+
+		FeedLoadResponse response = load();
+
+		assertThat(response.getInserted()).isZero();
+		assertThat(response.getRejected()).isEqualTo(1);
+		assertThat(Files.readAllLines(directory.resolve("feed.csv.rejects.csv")))
+			.containsExactly("line,reason,content", "2,Batch failed: value too long,\"Acme,A1,2024-01-31\"");
+	}
+
+	@Test
+	void noRejectsRemovesAStaleRejectsFile() throws IOException {
+		Files.writeString(directory.resolve("feed.csv.rejects.csv"), "stale");
+		feed("clientName,accountNumber,reportDate",
+			"Acme,A1,2024-01-31");
+
+		load();
+
+		assertThat(directory.resolve("feed.csv.rejects.csv")).doesNotExist();
+	}
+
+	private void feed(String... lines) throws IOException {
+		Files.writeString(directory.resolve("feed.csv"), String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+	}
+
+	private FeedLoadResponse load() {
+		return loader.load(FeedLoadRequest.builder().fileName("feed.csv").dataSource("VENDOR").build());
+	}
+}
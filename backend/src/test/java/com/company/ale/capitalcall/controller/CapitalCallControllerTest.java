@@ -0,0 +1,70 @@
+package com.company.ale.capitalcall.controller;
+
+import com.company.ale.capitalcall.dto.CapitalCallDetailResponse;
+import com.company.ale.capitalcall.service.CapitalCallImportService;
+import com.company.ale.capitalcall.service.CapitalCallLockService;
+import com.company.ale.capitalcall.service.CapitalCallService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CapitalCallControllerTest {
+
+	private CapitalCallService service;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		service = mock(CapitalCallService.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new CapitalCallController(service,
+			mock(CapitalCallImportService.class), mock(CapitalCallLockService.class))).build();
+	}
+
+	@Test
+	void matchingIfNoneMatchReturns304WithoutLoading() throws Exception {
+		when(service.getVersion(1L)).thenReturn(3);
+
+		mockMvc.perform(get("/api/capital-call/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(content().string(""));
+
+		verify(service, never()).getById(anyLong());
+	}
+
+	@Test
+	void staleIfNoneMatchReturnsTheBodyWithTheCurrentETag() throws Exception {
+		when(service.getVersion(1L)).thenReturn(4);
+		when(service.getById(1L)).thenReturn(CapitalCallDetailResponse.builder().id(1L).version(4).build());
+
+		mockMvc.perform(get("/api/capital-call/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+			.andExpect(jsonPath("$.version").value(4));
+	}
+
+	@Test
+	void withoutIfNoneMatchTheVersionIsNotLookedUp() throws Exception {
+		when(service.getById(1L)).thenReturn(CapitalCallDetailResponse.builder().id(1L).version(2).build());
+
+		mockMvc.perform(get("/api/capital-call/1"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+		verify(service, never()).getVersion(anyLong());
+	}
+}
@@ -0,0 +1,190 @@
+package com.company.ale.capitalcall.repository;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.domain.CapitalCallQueue;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own in-memory database: the test profile rebuilds the shared one with create-drop,
+// which would drop the schema.sql id defaults that other contexts' data.sql relies on
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:capital-call-lease")
+@ActiveProfiles("test")
+@Transactional
+class CapitalCallLeaseRepositoryTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	private static final LocalDateTime STALE_BEFORE = NOW.minusMinutes(15);
+
+	@Autowired
+	private CapitalCallRepository repository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private int nextBatchId = 900_000;
+
+	@Test
+	void acquireTakesAFreeLockAndBumpsTheVersion() {
+		CapitalCall call = insert(null, null, null);
+
+		assertThat(repository.acquireLease(call.getId(), "alice", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isEqualTo(1);
+
+		CapitalCall locked = reload(call);
+		assertThat(locked.getLockedBy()).isEqualTo("alice");
+		assertThat(locked.getLockedAt()).isEqualTo(NOW);
+		assertThat(locked.getLockExpiresAt()).isEqualTo(NOW.plusMinutes(15));
+		assertThat(locked.getVersion()).isEqualTo(call.getVersion() + 1);
+	}
+
+	@Test
+	void acquireFailsOnALiveLeaseOfAnotherUser() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(1), NOW.plusMinutes(14));
+
+		assertThat(repository.acquireLease(call.getId(), "bob", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isZero();
+
+		assertThat(reload(call).getLockedBy()).isEqualTo("alice");
+	}
+
+	@Test
+	void acquireTakesOverAnExpiredLease() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(20), NOW.minusMinutes(5));
+
+		assertThat(repository.acquireLease(call.getId(), "bob", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isEqualTo(1);
+
+		CapitalCall locked = reload(call);
+		assertThat(locked.getLockedBy()).isEqualTo("bob");
+		assertThat(locked.getLockedAt()).isEqualTo(NOW);
+	}
+
+	@Test
+	void aLockWithoutExpiryExpiresOneLeaseAfterItWasTaken() {
+		CapitalCall recent = insert("alice", NOW.minusMinutes(5), null);
+		CapitalCall stale = insert("alice", NOW.minusMinutes(20), null);
+
+		assertThat(repository.acquireLease(recent.getId(), "bob", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isZero();
+		assertThat(repository.acquireLease(stale.getId(), "bob", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isEqualTo(1);
+	}
+
+	@Test
+	void aLockWithNoTimestampIsExpired() {
+		CapitalCall taken = insert("alice", null, null);
+		CapitalCall swept = insert("alice", null, null);
+
+		assertThat(repository.acquireLease(taken.getId(), "bob", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isEqualTo(1);
+		assertThat(repository.findExpiredLeaseIds(NOW, STALE_BEFORE, PageRequest.of(0, 100))).contains(swept.getId());
+		assertThat(repository.releaseExpiredLeases(List.of(swept.getId()), NOW, STALE_BEFORE)).isEqualTo(1);
+	}
+
+	@Test
+	void reacquiringOwnLockKeepsLockedAt() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(10), NOW.plusMinutes(5));
+
+		assertThat(repository.acquireLease(call.getId(), "alice", NOW, STALE_BEFORE, NOW.plusMinutes(15))).isEqualTo(1);
+
+		CapitalCall locked = reload(call);
+		assertThat(locked.getLockedAt()).isEqualTo(NOW.minusMinutes(10));
+		assertThat(locked.getLockExpiresAt()).isEqualTo(NOW.plusMinutes(15));
+	}
+
+	@Test
+	void renewExtendsOnlyTheHoldersLeaseAndLeavesTheVersion() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(10), NOW.plusMinutes(5));
+
+		assertThat(repository.renewLease(call.getId(), "bob", NOW.plusMinutes(15))).isZero();
+		assertThat(repository.renewLease(call.getId(), "alice", NOW.plusMinutes(15))).isEqualTo(1);
+
+		CapitalCall renewed = reload(call);
+		assertThat(renewed.getLockExpiresAt()).isEqualTo(NOW.plusMinutes(15));
+		assertThat(renewed.getVersion()).isEqualTo(call.getVersion());
+	}
+
+	@Test
+	void releaseFreesOnlyTheHoldersLock() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(10), NOW.plusMinutes(5));
+
+		assertThat(repository.releaseLease(call.getId(), "bob")).isZero();
+		assertThat(repository.releaseLease(call.getId(), "alice")).isEqualTo(1);
+
+		CapitalCall released = reload(call);
+		assertThat(released.getLockedBy()).isNull();
+		assertThat(released.getLockedAt()).isNull();
+		assertThat(released.getLockExpiresAt()).isNull();
+		assertThat(released.getVersion()).isEqualTo(call.getVersion() + 1);
+	}
+
+	@Test
+	void sweepReleasesExpiredLeasesOnly() {
+		CapitalCall expired = insert("alice", NOW.minusMinutes(20), NOW.minusMinutes(5));
+		CapitalCall live = insert("bob", NOW.minusMinutes(5), NOW.plusMinutes(10));
+
+		List<Long> ids = repository.findExpiredLeaseIds(NOW, STALE_BEFORE, PageRequest.of(0, 100));
+		assertThat(ids).contains(expired.getId()).doesNotContain(live.getId());
+
+		assertThat(repository.releaseExpiredLeases(List.of(expired.getId(), live.getId()), NOW, STALE_BEFORE)).isEqualTo(1);
+		assertThat(reload(expired).getLockedBy()).isNull();
+		assertThat(reload(live).getLockedBy()).isEqualTo("bob");
+	}
+
+	@Test
+	void sweepKeepsALeaseRenewedAfterItWasFound() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(20), NOW.minusMinutes(5));
+		List<Long> ids = repository.findExpiredLeaseIds(NOW, STALE_BEFORE, PageRequest.of(0, 100));
+		assertThat(ids).contains(call.getId());
+
+		// The holder comes back between the sweeper's read and its UPDATE
+		repository.renewLease(call.getId(), "alice", NOW.plusMinutes(15));
+
+		assertThat(repository.releaseExpiredLeases(List.of(call.getId()), NOW, STALE_BEFORE)).isZero();
+		assertThat(reload(call).getLockedBy()).isEqualTo("alice");
+	}
+
+	@Test
+	void savingALoadedEntityDoesNotOverwriteARenewedLease() {
+		CapitalCall call = insert("alice", NOW.minusMinutes(10), NOW.plusMinutes(5));
+		CapitalCall loaded = reload(call);
+
+		repository.renewLease(call.getId(), "alice", NOW.plusMinutes(15));
+		// The loaded entity still has the old expiry
+		loaded.setClientName("Renamed");
+		repository.saveAndFlush(loaded);
+
+		CapitalCall saved = reload(call);
+		assertThat(saved.getClientName()).isEqualTo("Renamed");
+		assertThat(saved.getLockExpiresAt()).isEqualTo(NOW.plusMinutes(15));
+	}
+
+	private CapitalCall insert(String lockedBy, LocalDateTime lockedAt, LocalDateTime lockExpiresAt) {
+		CapitalCall call = CapitalCall.builder()
+			.aleBatchId("ALE-" + nextBatchId++)
+			.totalAmount(new BigDecimal("1000.00"))
+			.workflowStatus(WorkflowStatus.DRAFT)
+			.queue(CapitalCallQueue.SSI_VERIFICATION)
+			.lockedBy(lockedBy)
+			.lockedAt(lockedAt)
+			.lockExpiresAt(lockExpiresAt)
+			.createdAt(NOW)
+			.createdBy("test")
+			.build();
+		CapitalCall saved = repository.saveAndFlush(call);
+		entityManager.clear();
+		return saved;
+	}
+
+	// The lease UPDATEs bypass the persistence context: read the row again
+	private CapitalCall reload(CapitalCall call) {
+		entityManager.clear();
+		return repository.findById(call.getId()).orElseThrow();
+	}
+}
@@ -0,0 +1,63 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.CapitalCall;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import com.company.ale.common.exception.AuthorizationException;
+import com.company.ale.common.security.AuthorizationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CapitalCallLockServiceTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	private final CapitalCallLockService lockService = new CapitalCallLockService(mock(CapitalCallRepository.class),
+		mock(AuthorizationService.class), mock(TransactionTemplate.class), Duration.ofMinutes(15), 500);
+
+	@Test
+	void aLiveLeaseOfTheUserIsHeld() {
+		assertThatCode(() -> lockService.requireHeldBy(lockedBy("alice", NOW, NOW.plusMinutes(5)), "alice"))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	void anotherUsersLockIsNotHeld() {
+		assertThatThrownBy(() -> lockService.requireHeldBy(lockedBy("bob", NOW, NOW.plusMinutes(5)), "alice"))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	@Test
+	void anExpiredLeaseIsNotHeld() {
+		assertThatThrownBy(() -> lockService.requireHeldBy(lockedBy("alice", NOW.minusMinutes(20), NOW.minusMinutes(5)), "alice"))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	@Test
+	void aLockWithoutExpiryLastsOneLeaseFromLockedAt() {
+		assertThatCode(() -> lockService.requireHeldBy(lockedBy("alice", NOW.minusMinutes(5), null), "alice"))
+			.doesNotThrowAnyException();
+		assertThatThrownBy(() -> lockService.requireHeldBy(lockedBy("alice", NOW.minusMinutes(20), null), "alice"))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	@Test
+	void aLockWithNoTimestampIsNotHeld() {
+		assertThatThrownBy(() -> lockService.requireHeldBy(lockedBy("alice", null, null), "alice"))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	private static CapitalCall lockedBy(String username, LocalDateTime lockedAt, LocalDateTime lockExpiresAt) {
+		return CapitalCall.builder()
+			.id(1L)
+			.lockedBy(username)
+			.lockedAt(lockedAt)
+			.lockExpiresAt(lockExpiresAt)
+			.build();
+	}
+}
@@ -0,0 +1,39 @@
+package com.company.ale.capitalcall.service;
+
+import com.company.ale.capitalcall.domain.WorkflowAction;
+import com.company.ale.capitalcall.domain.WorkflowStatus;
+import com.company.ale.capitalcall.repository.CapitalCallRepository;
+import com.company.ale.capitalcall.validator.CapitalCallValidator;
+import com.company.ale.capitalcall.validator.WorkflowValidator;
+import com.company.ale.common.exception.AuthorizationException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CapitalCallTransitionsTest {
+
+	private final EntityManager entityManager = mock(EntityManager.class);
+	private final CapitalCallRepository repository = mock(CapitalCallRepository.class);
+	private final CapitalCallTransitions transitions = new CapitalCallTransitions(entityManager, repository,
+		mock(CapitalCallValidator.class), new WorkflowValidator(), mock(CapitalCallCounters.class),
+		mock(CapitalCallLockService.class));
+
+	@Test
+	void anActionFromTheWrongStatusIsForbidden() {
+		CapitalCallRepository.TransitionState state = mock(CapitalCallRepository.TransitionState.class);
+		when(state.getWorkflowStatus()).thenReturn(WorkflowStatus.SUBMITTED);
+		when(state.getVersion()).thenReturn(3);
+		when(repository.findTransitionStates(anyCollection())).thenReturn(List.of(state));
+
+		assertThatThrownBy(() -> transitions.transition(WorkflowAction.SUBMIT, 1L, null, "alice"))
+			.isInstanceOf(AuthorizationException.class)
+			.hasMessage("Capital call can only be submitted from DRAFT status");
+		verifyNoInteractions(entityManager);
+	}
+}
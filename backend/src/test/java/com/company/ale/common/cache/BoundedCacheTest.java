@@ -0,0 +1,93 @@
+package com.company.ale.common.cache;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+	@Test
+	void loadsOnceThenServesTheCachedValue() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+		assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+
+		CacheStats stats = cache.stats();
+		assertThat(stats.getHits()).isEqualTo(1);
+		assertThat(stats.getMisses()).isEqualTo(1);
+		assertThat(stats.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsTheLeastRecentlyUsedEntry() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 2, Duration.ofMinutes(1));
+		cache.put("a", "A");
+		cache.put("b", "B");
+		// Reading "a" makes "b" the least recently used
+		cache.get("a", key -> "reloaded");
+
+		cache.put("c", "C");
+
+		assertThat(cache.get("a", key -> "reloaded")).isEqualTo("A");
+		assertThat(cache.get("c", key -> "reloaded")).isEqualTo("C");
+		assertThat(cache.get("b", key -> "reloaded")).isEqualTo("reloaded");
+		assertThat(cache.stats().getEvictions()).isEqualTo(2);
+	}
+
+	@Test
+	void expiredEntriesAreReloaded() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ZERO);
+		cache.put("a", "old");
+
+		assertThat(cache.get("a", key -> "new")).isEqualTo("new");
+		assertThat(cache.stats().getExpirations()).isEqualTo(1);
+	}
+
+	@Test
+	void aLoadOverlappingAWriteIsNotStored() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+
+		// The write-through lands while the (stale) load is running
+		String loaded = cache.get("a", key -> {
+			cache.put("a", "written");
+			return "stale";
+		});
+
+		assertThat(loaded).isEqualTo("stale");
+		assertThat(cache.get("a", key -> "reloaded")).isEqualTo("written");
+	}
+
+	@Test
+	void aLoadOverlappingAnInvalidateIsNotStored() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+
+		cache.get("a", key -> {
+			cache.invalidate("a");
+			return "stale";
+		});
+
+		assertThat(cache.get("a", key -> "reloaded")).isEqualTo("reloaded");
+	}
+
+	@Test
+	void invalidateAllEmptiesTheCache() {
+		BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+		cache.put("a", "A");
+		cache.put("b", "B");
+
+		cache.invalidateAll();
+
+		assertThat(cache.stats().getSize()).isZero();
+	}
+
+	@Test
+	void rejectsANonPositiveSize() {
+		assertThatThrownBy(() -> new BoundedCache<>("test", 0, Duration.ofMinutes(1)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,132 @@
+package com.company.ale.common.cache;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapByteCacheTest {
+
+	// Four 4-byte blocks
+	private final OffHeapByteCache<String> cache = new OffHeapByteCache<>("test", 16, 4, 16);
+
+	@Test
+	void roundTripsAValueSpanningSeveralBlocks() throws IOException {
+		assertThat(put("a", 1, "0123456789")).isTrue();
+
+		assertThat(read("a", 1)).isEqualTo("0123456789");
+		assertThat(cache.stats().getUsedBytes()).isEqualTo(12);
+	}
+
+	@Test
+	void aDifferentTagIsAMissAndDropsTheEntry() throws IOException {
+		put("a", 1, "old");
+
+		assertThat(cache.acquire("a", 2)).isNull();
+
+		assertThat(read("a", 1)).isNull();
+		CacheStats stats = cache.stats();
+		assertThat(stats.getExpirations()).isEqualTo(1);
+		assertThat(stats.getUsedBytes()).isZero();
+	}
+
+	@Test
+	void aLoadOverlappingAnInvalidateOfItsKeyIsNotStored() throws IOException {
+		long stamp = cache.writeStamp("a");
+		cache.invalidate("a");
+
+		assertThat(cache.put("a", 1, bytes("stale"), stamp)).isFalse();
+		assertThat(read("a", 1)).isNull();
+	}
+
+	@Test
+	void aWriteToAnotherKeyDoesNotDiscardALoad() throws IOException {
+		long stamp = cache.writeStamp("a");
+		cache.invalidate("b");
+		put("b", 1, "B");
+
+		assertThat(cache.put("a", 1, bytes("A"), stamp)).isTrue();
+		assertThat(read("a", 1)).isEqualTo("A");
+	}
+
+	@Test
+	void evictionPassesOverPinnedEntries() throws IOException {
+		put("a", 1, "AAAA");
+		put("b", 1, "BBBB");
+		put("c", 1, "CCCC");
+		put("d", 1, "DDDD");
+
+		try (OffHeapByteCache<String>.Handle pinned = cache.acquire("a", 1)) {
+			read("b", 1);
+			read("c", 1);
+			read("d", 1);
+			// "a" is the least recently used entry but pinned, so "b" goes instead
+			assertThat(put("e", 1, "EEEE")).isTrue();
+		}
+
+		assertThat(read("a", 1)).isEqualTo("AAAA");
+		assertThat(read("b", 1)).isNull();
+		assertThat(read("e", 1)).isEqualTo("EEEE");
+		assertThat(cache.stats().getEvictions()).isEqualTo(1);
+	}
+
+	@Test
+	void nothingIsEvictedWhenOnlyPinnedEntriesStandInTheWay() throws IOException {
+		put("a", 1, "AAAAAAAA");
+		put("b", 1, "BBBB");
+
+		try (OffHeapByteCache<String>.Handle pinned = cache.acquire("a", 1)) {
+			// Needs three blocks: one free, one from "b", none from the pinned "a"
+			assertThat(put("c", 1, "CCCCCCCCCC")).isFalse();
+		}
+
+		assertThat(read("a", 1)).isEqualTo("AAAAAAAA");
+		assertThat(read("b", 1)).isEqualTo("BBBB");
+		assertThat(cache.stats().getEvictions()).isZero();
+	}
+
+	@Test
+	void anInvalidatedPinnedEntryKeepsItsBytesUntilClosed() throws IOException {
+		put("a", 1, "AAAAAA");
+		OffHeapByteCache<String>.Handle handle = cache.acquire("a", 1);
+
+		cache.invalidate("a");
+		assertThat(cache.stats().getUsedBytes()).isEqualTo(8);
+		put("b", 1, "BBBBBBBB");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		handle.writeTo(out);
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("AAAAAA");
+		handle.close();
+
+		assertThat(cache.stats().getUsedBytes()).isEqualTo(8);
+		assertThat(read("b", 1)).isEqualTo("BBBBBBBB");
+	}
+
+	@Test
+	void aValueAboveTheEntryLimitIsNotStored() {
+		assertThat(put("a", 1, "0123456789abcdefg")).isFalse();
+		assertThat(cache.stats().getUsedBytes()).isZero();
+	}
+
+	private boolean put(String key, Object tag, String value) {
+		return cache.put(key, tag, bytes(value), cache.writeStamp(key));
+	}
+
+	private String read(String key, Object tag) throws IOException {
+		try (OffHeapByteCache<String>.Handle handle = cache.acquire(key, tag)) {
+			if (handle == null) {
+				return null;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			handle.writeTo(out);
+			return out.toString(StandardCharsets.UTF_8);
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,45 @@
+package com.company.ale.common.export;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExportWriterTest {
+
+	@Test
+	void quotesSeparatorsQuotesAndLineBreaks() throws IOException {
+		String csv = write(List.of("a,b", "say \"hi\"", "two\nlines", "plain"));
+
+		assertThat(csv).isEqualTo("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",plain\r\n");
+	}
+
+	@Test
+	void neutralizesFormulaTriggersInTextCells() throws IOException {
+		String csv = write(List.of("=HYPERLINK(\"http://x\")", "+1", "-2", "@SUM(A1)", "\tcmd", "\rcmd"));
+
+		assertThat(csv).isEqualTo(
+			"\"'=HYPERLINK(\"\"http://x\"\")\",'+1,'-2,'@SUM(A1),'\tcmd,\"'\rcmd\"\r\n");
+	}
+
+	@Test
+	void leavesNumbersDatesAndOrdinaryTextUnchanged() throws IOException {
+		String csv = write(Arrays.asList(new BigDecimal("-12.50"), -3L, LocalDate.of(2024, 1, 31), "a=b", null, ""));
+
+		assertThat(csv).isEqualTo("-12.50,-3,2024-01-31,a=b,,\r\n");
+	}
+
+	private static String write(List<Object> row) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvExportWriter writer = new CsvExportWriter(out, 1024);
+		writer.writeRow(row);
+		writer.finish();
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
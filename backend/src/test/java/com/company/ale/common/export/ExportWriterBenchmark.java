@@ -0,0 +1,132 @@
+package com.company.ale.common.export;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV against XLSX export: time per export of a document-tracker-like row set and
+ * heap behaviour as the row count grows.
+ *
+ * Output goes to a counting sink, so only the writers are measured (no disk or network).
+ * The GC profiler reports allocation per export (gc.alloc.rate.norm); the peak heap
+ * used during each measurement iteration (all heap pools, reset before the iteration)
+ * is printed after it. A flat writer keeps the peak level when rows goes from 100,000
+ * to 1,000,000.
+ *
+ * Run with the test classpath, e.g. from the IDE, or:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.company.ale.common.export.ExportWriterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m"})
+public class ExportWriterBenchmark {
+
+	private static final List<String> HEADERS = List.of(
+		"GenId", "Document Name", "Document Date", "Document Type", "Client Name",
+		"Account Number", "Status", "Amount", "Received At");
+
+	@Param({"CSV", "XLSX"})
+	public String format;
+
+	@Param({"100000", "1000000"})
+	public int rows;
+
+	private List<List<Object>> sample;
+
+	@Setup
+	public void setUp() {
+		// 1,000 distinct rows, cycled: the writers see realistic values without the
+		// benchmark itself holding rows in memory
+		sample = new ArrayList<>(1000);
+		LocalDateTime receivedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+		for (int i = 0; i < 1000; i++) {
+			sample.add(Arrays.asList(
+				String.format("GEN%08d", i), "Statement \"Q" + (i % 4 + 1) + "\", client " + i,
+				LocalDate.of(2024, 1, 1).plusDays(i % 365), i % 2 == 0 ? "INVOICE" : "STATEMENT",
+				"Client & Partners " + (i % 100), "ACC-" + (1000 + i), i % 3 == 0 ? null : "RECEIVED",
+				new BigDecimal(i).movePointLeft(2), receivedAt.plusMinutes(i)));
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void resetPeakHeap() {
+		heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+	}
+
+	@TearDown(Level.Iteration)
+	public void reportPeakHeap() {
+		long peak = heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		System.out.printf("%n%s, %d rows: peak heap %d MiB%n", format, rows, peak >> 20);
+	}
+
+	@Benchmark
+	public long export() throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		ExportWriter writer = "XLSX".equals(format) ? new XlsxExportWriter(out, 65536) : new CsvExportWriter(out, 65536);
+		writer.writeHeader(HEADERS);
+		for (int i = 0; i < rows; i++) {
+			writer.writeRow(sample.get(i % sample.size()));
+		}
+		writer.finish();
+		return out.count;
+	}
+
+	private static List<MemoryPoolMXBean> heapPools() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP)
+			.toList();
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(ExportWriterBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+}
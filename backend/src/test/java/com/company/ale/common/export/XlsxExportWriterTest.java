@@ -0,0 +1,91 @@
+package com.company.ale.common.export;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxExportWriterTest {
+
+	@Test
+	void writesAWellFormedPackage() throws Exception {
+		Map<String, byte[]> parts = export(List.of("Name", "Amount"), List.of(Arrays.asList("Acme & Co <UK>", new BigDecimal("12.50"))));
+
+		assertThat(parts).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+			"xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml");
+		for (byte[] part : parts.values()) {
+			parse(part);
+		}
+		assertThat(cells(parts)).containsExactly("Name", "Amount", "Acme & Co <UK>", "12.50");
+	}
+
+	@Test
+	void dropsCharactersXmlCannotHold() throws Exception {
+		String text = "a\u0001b\uD83D\uDE00c\uD800d\uDC00e\uFFFEf\tg";
+
+		Map<String, byte[]> parts = export(List.of("Text"), List.of(List.of(text)));
+
+		// The surrogate pair (emoji) and tab stay; the control character, unpaired surrogates and U+FFFE go
+		assertThat(cells(parts)).containsExactly("Text", "ab\uD83D\uDE00cdef\tg");
+	}
+
+	@Test
+	void writesNonFiniteNumbersAsText() throws Exception {
+		Map<String, byte[]> parts = export(List.of("A", "B", "C", "D"),
+			List.of(List.of(Double.NaN, Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1.5d)));
+
+		Document sheet = parse(parts.get("xl/worksheets/sheet1.xml"));
+		NodeList cells = ((Element) sheet.getElementsByTagName("row").item(1)).getElementsByTagName("c");
+		assertThat(((Element) cells.item(0)).getAttribute("t")).isEqualTo("inlineStr");
+		assertThat(((Element) cells.item(1)).getAttribute("t")).isEqualTo("inlineStr");
+		assertThat(((Element) cells.item(2)).getAttribute("t")).isEqualTo("inlineStr");
+		assertThat(((Element) cells.item(3)).getAttribute("t")).isEmpty();
+		assertThat(cells(parts)).containsExactly("A", "B", "C", "D", "NaN", "Infinity", "-Infinity", "1.5");
+	}
+
+	private static Map<String, byte[]> export(List<String> headers, List<List<Object>> rows) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		XlsxExportWriter writer = new XlsxExportWriter(out, 1024);
+		writer.writeHeader(headers);
+		for (List<Object> row : rows) {
+			writer.writeRow(row);
+		}
+		writer.finish();
+
+		Map<String, byte[]> parts = new HashMap<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8)) {
+			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+				parts.put(entry.getName(), zip.readAllBytes());
+			}
+		}
+		return parts;
+	}
+
+	private static Document parse(byte[] xml) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+	}
+
+	// Text of every cell of the first sheet, in document order
+	private static List<String> cells(Map<String, byte[]> parts) throws Exception {
+		NodeList cells = parse(parts.get("xl/worksheets/sheet1.xml")).getElementsByTagName("c");
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < cells.getLength(); i++) {
+			values.add(cells.item(i).getTextContent());
+		}
+		return values;
+	}
+}
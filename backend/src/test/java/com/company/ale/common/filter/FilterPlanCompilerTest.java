@@ -0,0 +1,137 @@
+package com.company.ale.common.filter;
+
+import com.company.ale.common.exception.ValidationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class FilterPlanCompilerTest {
+
+	enum Status { OPEN, CLOSED }
+
+	private FilterPlanCompiler<Object> compiler;
+
+	@BeforeEach
+	void setUp() {
+		compiler = FilterPlanCompiler.of(
+			FilterField.text("clientName", FilterOperator.CONTAINS_IGNORE_CASE),
+			FilterField.text("accountNumber", FilterOperator.CONTAINS),
+			FilterField.date("fromDate", FilterOperator.GREATER_OR_EQUAL),
+			FilterField.enumValue("status", Status.class));
+	}
+
+	@Test
+	void sameShapeSharesOnePlanWhateverTheKeyOrder() {
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("status", "OPEN");
+		first.put("clientName", "acme");
+		Map<String, Object> second = new LinkedHashMap<>();
+		second.put("clientName", "globex");
+		second.put("status", "CLOSED");
+
+		BoundFilter<Object> a = compiler.bind(first);
+		BoundFilter<Object> b = compiler.bind(second);
+
+		assertThat(a.getPlan()).isSameAs(b.getPlan());
+		assertThat(a.getPlan().getShape()).isEqualTo("clientName:CONTAINS_IGNORE_CASE;status:EQUALS;");
+		assertThat(compiler.cachedPlanCount()).isEqualTo(1);
+	}
+
+	@Test
+	void nullBlankAndUnknownKeysAreNotPartOfTheShape() {
+		Map<String, Object> filters = new HashMap<>();
+		filters.put("clientName", "acme");
+		filters.put("accountNumber", " ");
+		filters.put("fromDate", null);
+		filters.put("unknown", "x");
+
+		assertThat(compiler.bind(filters).getPlan().getShape()).isEqualTo("clientName:CONTAINS_IGNORE_CASE;");
+		assertThat(compiler.bind(null).getPlan().getShape()).isEmpty();
+	}
+
+	@Test
+	void bindsTypedValues() {
+		Map<String, Object> filters = Map.of(
+			"clientName", "AcMe", "accountNumber", "ACC-1", "fromDate", "2024-01-31", "status", "OPEN");
+
+		Object[] values = compiler.bind(filters).getPlan().bind(filters);
+
+		assertThat(values).containsExactly("%acme%", "%ACC-1%", LocalDate.of(2024, 1, 31), Status.OPEN);
+	}
+
+	@Test
+	void rejectsUnparsableValues() {
+		assertThatThrownBy(() -> compiler.bind(Map.of("fromDate", "31/01/2024")))
+			.isInstanceOf(ValidationException.class)
+			.extracting("errorCode").isEqualTo("VAL_012");
+		assertThatThrownBy(() -> compiler.bind(Map.of("status", "PENDING")))
+			.isInstanceOf(ValidationException.class)
+			.extracting("errorCode").isEqualTo("VAL_012");
+	}
+
+	@Test
+	void buildsOnePredicatePerActiveField() {
+		Root root = mock(Root.class);
+		CriteriaBuilder cb = mock(CriteriaBuilder.class);
+		Path clientName = mock(Path.class);
+		Path lowered = mock(Path.class);
+		doReturn(clientName).when(root).get("clientName");
+		when(cb.lower(clientName)).thenReturn(lowered);
+
+		compiler.bind(Map.of("clientName", "AcMe")).toPredicate(root, cb);
+
+		verify(cb).like(lowered, "%acme%");
+		verify(root, never()).get("id");
+	}
+
+	@Test
+	void indexCandidatesRestrictThePredicate() {
+		NgramIndex index = new NgramIndex(Object.class, 100, "clientName");
+		index.put(1L, new String[] {"Acme Holdings"});
+		index.put(2L, new String[] {"Globex Capital"});
+		index.markReady();
+		Root root = mock(Root.class);
+		CriteriaBuilder cb = mock(CriteriaBuilder.class);
+		Path id = mock(Path.class);
+		doReturn(mock(Path.class)).when(root).get("clientName");
+		doReturn(id).when(root).get("id");
+
+		compiler.bind(Map.of("clientName", "acme"), index).toPredicate(root, cb);
+
+		// The LIKE predicate still applies on top of the candidate ids
+		verify(id).in(Set.of(1L));
+		verify(cb).like(any(), any(String.class));
+	}
+
+	@Test
+	void noCandidateMeansNoRow() {
+		NgramIndex index = new NgramIndex(Object.class, 100, "clientName");
+		index.put(1L, new String[] {"Acme Holdings"});
+		index.markReady();
+		CriteriaBuilder cb = mock(CriteriaBuilder.class);
+		Predicate none = mock(Predicate.class);
+		when(cb.disjunction()).thenReturn(none);
+
+		Predicate predicate = compiler.bind(Map.of("clientName", "initech"), index).toPredicate(mock(Root.class), cb);
+
+		assertThat(predicate).isSameAs(none);
+	}
+}
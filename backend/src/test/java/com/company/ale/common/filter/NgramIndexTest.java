@@ -0,0 +1,112 @@
+package com.company.ale.common.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+	private NgramIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new NgramIndex(Object.class, 100, "clientName", "accountNumber");
+		index.put(1L, values("Acme Holdings", "ACC-1001"));
+		index.put(2L, values("Globex Capital", "ACC-2002"));
+		index.put(3L, values("Initech", null));
+		index.markReady();
+	}
+
+	@Test
+	void narrowsToRowsContainingTheNeedle() {
+		assertThat(index.candidates("clientName", "hold")).containsExactly(1L);
+		assertThat(index.candidates("accountNumber", "c-2")).containsExactly(2L);
+	}
+
+	@Test
+	void matchesCaseInsensitively() {
+		assertThat(index.candidates("clientName", "GLOBEX")).containsExactly(2L);
+	}
+
+	@Test
+	void candidatesMayBeASupersetButNeverMissARow() {
+		// Every gram of "abcab" (abc, bca, cab) occurs in the value, the substring does not:
+		// the row stays a candidate and the database LIKE filters it out
+		index.put(4L, values("abc-bca-cab", null));
+
+		assertThat(index.candidates("clientName", "abcab")).containsExactly(4L);
+	}
+
+	@Test
+	void returnsEmptySetWhenAGramIsUnknown() {
+		assertThat(index.candidates("clientName", "zzz")).isEmpty();
+	}
+
+	@Test
+	void cannotNarrowBeforeReadyShortNeedlesOrOtherAttributes() {
+		NgramIndex loading = new NgramIndex(Object.class, 100, "clientName");
+		loading.put(1L, new String[] {"Acme Holdings"});
+
+		assertThat(loading.candidates("clientName", "acme")).isNull();
+		assertThat(index.candidates("clientName", "ac")).isNull();
+		assertThat(index.candidates("fundFamily", "acme")).isNull();
+	}
+
+	@Test
+	void cannotNarrowANeedleWithLikeWildcards() {
+		// The LIKE matches "Acme Holdings" for both, while no value contains the literal grams
+		assertThat(index.candidates("clientName", "ac_e")).isNull();
+		assertThat(index.candidates("clientName", "acme%hold")).isNull();
+	}
+
+	@Test
+	void givesUpAboveMaxCandidates() {
+		NgramIndex small = new NgramIndex(Object.class, 1, "clientName");
+		small.put(1L, new String[] {"Acme North"});
+		small.put(2L, new String[] {"Acme South"});
+		small.markReady();
+
+		assertThat(small.candidates("clientName", "acme")).isNull();
+		assertThat(small.candidates("clientName", "north")).containsExactly(1L);
+	}
+
+	@Test
+	void uncommittedAddKeepsPreviousValueFindable() {
+		// A write that may still roll back only adds grams
+		index.add(1L, values("Umbrella Corp", "ACC-1001"));
+
+		assertThat(index.candidates("clientName", "umbrella")).containsExactly(1L);
+		assertThat(index.candidates("clientName", "acme")).containsExactly(1L);
+	}
+
+	@Test
+	void committedUpdateDropsStaleGrams() {
+		index.put(1L, values("Umbrella Corp", "ACC-1001"));
+
+		assertThat(index.candidates("clientName", "umbrella")).containsExactly(1L);
+		assertThat(index.candidates("clientName", "acme")).isEmpty();
+		assertThat(index.candidates("accountNumber", "1001")).containsExactly(1L);
+	}
+
+	@Test
+	void removeDropsTheRow() {
+		index.remove(2L);
+
+		assertThat(index.candidates("clientName", "globex")).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	void initialLoadDoesNotOverwriteNewerWrites() {
+		index.put(5L, values("Stark Industries", null));
+		index.load(5L, values("Wayne Enterprises", null));
+
+		assertThat(index.candidates("clientName", "stark")).containsExactly(5L);
+		assertThat(index.candidates("clientName", "wayne")).isEmpty();
+	}
+
+	private static String[] values(String clientName, String accountNumber) {
+		return new String[] {clientName, accountNumber};
+	}
+}
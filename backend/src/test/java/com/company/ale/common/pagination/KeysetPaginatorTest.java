@@ -0,0 +1,154 @@
+package com.company.ale.common.pagination;
+
+import com.company.ale.common.exception.ValidationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class KeysetPaginatorTest {
+
+	private static final LocalDateTime RECEIVED_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+
+	private final KeysetPaginator paginator = new KeysetPaginator(true);
+
+	private Root root;
+	private CriteriaQuery query;
+	private CriteriaBuilder cb;
+	private Path receivedAt;
+	private Path id;
+
+	@BeforeEach
+	void setUp() {
+		root = mock(Root.class);
+		query = mock(CriteriaQuery.class);
+		cb = mock(CriteriaBuilder.class);
+		receivedAt = mock(Path.class);
+		id = mock(Path.class);
+		doReturn(receivedAt).when(root).get("receivedAt");
+		doReturn(id).when(root).get("id");
+		doReturn(LocalDateTime.class).when(receivedAt).getJavaType();
+		doReturn(Long.class).when(id).getJavaType();
+	}
+
+	@Test
+	void appendsIdTiebreakerOnce() {
+		Sort sort = paginator.withTiebreaker(Sort.by(Sort.Direction.DESC, "receivedAt"));
+
+		assertThat(sort.toList()).extracting(Sort.Order::getProperty).containsExactly("receivedAt", "id");
+		assertThat(sort.getOrderFor("id").isAscending()).isTrue();
+		assertThat(paginator.withTiebreaker(sort)).isEqualTo(sort);
+	}
+
+	@Test
+	void keepsRequestedIdDirection() {
+		Sort sort = paginator.withTiebreaker(Sort.by(Sort.Direction.DESC, "id"));
+
+		assertThat(sort.toList()).hasSize(1);
+		assertThat(sort.getOrderFor("id").isDescending()).isTrue();
+	}
+
+	@Test
+	void noCursorMeansFirstPage() {
+		Sort sort = paginator.withTiebreaker(Sort.by("receivedAt"));
+
+		assertThat(paginator.<Object>seek(sort, null)).isNull();
+		assertThat(paginator.<Object>seek(sort, " ")).isNull();
+	}
+
+	@Test
+	void cursorSeeksPastLastRowWithIdTiebreak() {
+		Sort sort = paginator.withTiebreaker(Sort.by(Sort.Direction.DESC, "receivedAt"));
+		String cursor = paginator.encode(sort, row(RECEIVED_AT, 42L)::get);
+
+		Specification<Object> seek = paginator.seek(sort, cursor);
+		seek.toPredicate(root, query, cb);
+
+		// (receivedAt < :receivedAt) OR (receivedAt = :receivedAt AND (id > :id OR id IS NULL))
+		verify(cb).lessThan(receivedAt, (Comparable) RECEIVED_AT);
+		verify(cb).equal(receivedAt, RECEIVED_AT);
+		verify(cb).greaterThan(id, (Comparable) 42L);
+		verify(cb).isNull(id);
+	}
+
+	@Test
+	void nullSortValueRoundTrips() {
+		Sort sort = paginator.withTiebreaker(Sort.by(Sort.Direction.ASC, "receivedAt"));
+		String cursor = paginator.encode(sort, row(null, 7L)::get);
+
+		paginator.<Object>seek(sort, cursor).toPredicate(root, query, cb);
+
+		// Ascending with NULLs high: nothing sorts after NULL except larger ids among NULL rows
+		verify(cb).isNull(receivedAt);
+		verify(cb, never()).greaterThan(receivedAt, (Comparable) RECEIVED_AT);
+		verify(cb).greaterThan(id, (Comparable) 7L);
+	}
+
+	@Test
+	void nullsLowSeeksNonNullRowsAfterNull() {
+		KeysetPaginator nullsLow = new KeysetPaginator(false);
+		Sort sort = nullsLow.withTiebreaker(Sort.by(Sort.Direction.ASC, "receivedAt"));
+		String cursor = nullsLow.encode(sort, row(null, 7L)::get);
+
+		nullsLow.<Object>seek(sort, cursor).toPredicate(root, query, cb);
+
+		verify(cb).isNotNull(receivedAt);
+		verify(cb).isNull(receivedAt);
+	}
+
+	@Test
+	void rejectsCursorOfAnotherSort() {
+		Sort byReceivedAt = paginator.withTiebreaker(Sort.by("receivedAt"));
+		Sort byDocumentType = paginator.withTiebreaker(Sort.by("documentType"));
+		String cursor = paginator.encode(byReceivedAt, row(RECEIVED_AT, 1L)::get);
+
+		assertThatThrownBy(() -> paginator.seek(byDocumentType, cursor))
+			.isInstanceOf(ValidationException.class)
+			.extracting("errorCode").isEqualTo("VAL_011");
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		Sort sort = paginator.withTiebreaker(Sort.by("receivedAt"));
+
+		assertThatThrownBy(() -> paginator.seek(sort, "not a cursor!"))
+			.isInstanceOf(ValidationException.class)
+			.extracting("errorCode").isEqualTo("VAL_011");
+	}
+
+	@Test
+	void rejectsTamperedValue() {
+		Sort sort = paginator.withTiebreaker(Sort.by("receivedAt"));
+		Map<String, Object> values = row(RECEIVED_AT, 1L);
+		values.put("id", "abc");
+		String cursor = paginator.encode(sort, values::get);
+
+		Specification<Object> seek = paginator.seek(sort, cursor);
+
+		assertThatThrownBy(() -> seek.toPredicate(root, query, cb))
+			.isInstanceOf(ValidationException.class)
+			.extracting("errorCode").isEqualTo("VAL_011");
+	}
+
+	private static Map<String, Object> row(LocalDateTime receivedAt, Long id) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("receivedAt", receivedAt);
+		values.put("id", id);
+		return values;
+	}
+}
@@ -0,0 +1,69 @@
+package com.company.ale.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission check cost: the per-request authority stream (previous implementation)
+ * against the cached rule bitmask of AuthorizationService.
+ *
+ * Run with the test classpath, e.g. from the IDE, or:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.company.ale.common.security.AuthorizationServiceBenchmark
+ * (-prof gc shows the allocation rate of each variant)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationServiceBenchmark {
+
+	private AuthorizationService authorizationService;
+	private Authentication authentication;
+
+	@Setup
+	public void setUp() {
+		authorizationService = new AuthorizationService();
+		ReflectionTestUtils.setField(authorizationService, "maxCacheEntries", 1000);
+		// Authorities of a typical non-admin user
+		authentication = new UsernamePasswordAuthenticationToken("analyst", null,
+			AuthorityUtils.createAuthorityList("ROLE_RULE_VIEW", "ROLE_RULE_EDIT", "ROLE_RULE_EXPORT", "ROLE_RULE_SUBMIT"));
+	}
+
+	@Benchmark
+	public boolean streamCheck() {
+		RuleType ruleType = RuleType.RULE_SUBMIT;
+		return authentication.getAuthorities().stream()
+			.anyMatch(auth -> auth.getAuthority().equals("ROLE_" + ruleType.name()) ||
+							auth.getAuthority().equals("ROLE_ADMIN"));
+	}
+
+	@Benchmark
+	public boolean bitmaskCheck() {
+		return (authorizationService.grantedRules(authentication) & AuthorizationService.bit(RuleType.RULE_SUBMIT)) != 0;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(AuthorizationServiceBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,75 @@
+package com.company.ale.common.security;
+
+import com.company.ale.common.exception.AuthorizationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthorizationServiceTest {
+
+	private AuthorizationService authorizationService;
+
+	@BeforeEach
+	void setUp() {
+		authorizationService = new AuthorizationService();
+		ReflectionTestUtils.setField(authorizationService, "maxCacheEntries", 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void aGrantedRulePasses() {
+		authenticate("ROLE_RULE_VIEW", "ROLE_RULE_EDIT");
+
+		// Twice: the second check is answered from the cached bitmask
+		assertThatCode(() -> authorizationService.checkPermission(RuleType.RULE_EDIT)).doesNotThrowAnyException();
+		assertThatCode(() -> authorizationService.checkPermission(RuleType.RULE_EDIT)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void aMissingRuleIsDenied() {
+		authenticate("ROLE_RULE_VIEW");
+
+		assertThatThrownBy(() -> authorizationService.checkPermission(RuleType.RULE_EDIT))
+			.isInstanceOf(AuthorizationException.class)
+			.hasMessageContaining("RULE_EDIT");
+		assertThatThrownBy(() -> authorizationService.checkPermission(RuleType.RULE_EDIT))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	@Test
+	void adminIsGrantedEveryRule() {
+		authenticate("ROLE_ADMIN");
+
+		for (RuleType ruleType : RuleType.values()) {
+			assertThatCode(() -> authorizationService.checkPermission(ruleType)).doesNotThrowAnyException();
+		}
+	}
+
+	@Test
+	void anonymousAndUnauthenticatedCallersAreDenied() {
+		assertThatThrownBy(() -> authorizationService.checkPermission(RuleType.RULE_VIEW))
+			.isInstanceOf(AuthorizationException.class);
+
+		SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+			AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+		assertThatThrownBy(() -> authorizationService.checkPermission(RuleType.RULE_VIEW))
+			.isInstanceOf(AuthorizationException.class);
+	}
+
+	private static void authenticate(String... authorities) {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user", null,
+			AuthorityUtils.createAuthorityList(authorities)));
+	}
+}
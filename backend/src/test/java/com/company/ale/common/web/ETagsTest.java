@@ -0,0 +1,35 @@
+package com.company.ale.common.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+	@Test
+	void quotesTheVersion() {
+		assertThat(ETags.of(7)).isEqualTo("\"7\"");
+		assertThat(ETags.of(null)).isEqualTo("\"0\"");
+	}
+
+	@Test
+	void matchesExactWeakListedAndWildcardTags() {
+		String etag = ETags.of(7);
+
+		assertThat(ETags.matches("\"7\"", etag)).isTrue();
+		assertThat(ETags.matches("W/\"7\"", etag)).isTrue();
+		assertThat(ETags.matches("\"5\", \"7\"", etag)).isTrue();
+		assertThat(ETags.matches("*", etag)).isTrue();
+	}
+
+	@Test
+	void doesNotMatchOtherOrMissingTags() {
+		String etag = ETags.of(7);
+
+		assertThat(ETags.matches(null, etag)).isFalse();
+		assertThat(ETags.matches(" ", etag)).isFalse();
+		assertThat(ETags.matches("\"8\"", etag)).isFalse();
+		assertThat(ETags.matches("7", etag)).isFalse();
+		assertThat(ETags.matches("\"17\"", etag)).isFalse();
+	}
+}
@@ -0,0 +1,48 @@
+package com.company.ale.documenttracker.controller;
+
+import com.company.ale.documenttracker.repository.DocumentTrackerRepository;
+import com.company.ale.documenttracker.service.DocumentTrackerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DocumentTrackerControllerTest {
+
+	private DocumentTrackerService service;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		service = mock(DocumentTrackerService.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new DocumentTrackerController(service)).build();
+	}
+
+	@Test
+	void matchingIfNoneMatchReturns304WithoutLoadingDetails() throws Exception {
+		DocumentTrackerRepository.VersionRef current = mock(DocumentTrackerRepository.VersionRef.class);
+		when(current.getId()).thenReturn(42L);
+		when(current.getVersion()).thenReturn(5);
+		when(service.getDocumentVersion("GEN001")).thenReturn(current);
+
+		mockMvc.perform(get("/api/document-tracker/GEN001/details").header(HttpHeaders.IF_NONE_MATCH, "W/\"5\""))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(content().string(""));
+
+		verify(service, never()).getSerializedDocumentDetails(anyString(), any());
+	}
+}
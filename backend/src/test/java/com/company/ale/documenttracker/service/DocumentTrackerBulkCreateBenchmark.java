@@ -0,0 +1,117 @@
+package com.company.ale.documenttracker.service;
+
+import com.company.ale.AlePocApplication;
+import com.company.ale.documenttracker.dto.BulkCreateDocumentTrackerRequest;
+import com.company.ale.documenttracker.dto.CreateDocumentTrackerRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Documents created per second: one create call (one transaction, one INSERT) per
+ * document, as clients did before the bulk endpoint, against one bulkCreate call for
+ * the whole batch (one existence query per 1000 GenIds, batched INSERTs, one commit).
+ *
+ * Boots the application on the test profile (in-memory H2); every invocation inserts
+ * a fresh set of GenIds, so the table grows during the run as it would in production.
+ * H2 in memory has no network round trip, so the ratio against PostgreSQL is larger
+ * than measured here. Throughput is BATCH / time per operation.
+ *
+ * Run with the test classpath, e.g. from the IDE, or:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.company.ale.documenttracker.service.DocumentTrackerBulkCreateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentTrackerBulkCreateBenchmark {
+
+	private static final int BATCH = 1000;
+
+	@Param({"SINGLE", "BULK"})
+	public String mode;
+
+	private ConfigurableApplicationContext context;
+	private DocumentTrackerService service;
+	private long nextGenId = 80_000_000L;
+	private List<CreateDocumentTrackerRequest> documents;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(AlePocApplication.class)
+			.profiles("test")
+			.properties("server.port=0", "logging.level.com.company.ale=WARN", "logging.level.org.springframework=WARN")
+			.run();
+		service = context.getBean(DocumentTrackerService.class);
+	}
+
+	@Setup(Level.Invocation)
+	public void nextBatch() {
+		// Authenticated user for checkPermission and the audit columns, on the benchmark thread
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("benchmark", null,
+			AuthorityUtils.createAuthorityList("ROLE_RULE_VIEW", "ROLE_RULE_CREATE")));
+		documents = new ArrayList<>(BATCH);
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < BATCH; i++) {
+			long genId = nextGenId++;
+			documents.add(CreateDocumentTrackerRequest.builder()
+				.genId(String.format("GEN%08d", genId))
+				.documentName("Benchmark document " + genId)
+				.documentDate(LocalDate.of(2026, 1, 1).plusDays(i % 365))
+				.documentType(i % 2 == 0 ? "INVOICE" : "STATEMENT")
+				.clientName("Client " + (i % 100))
+				.accountNumber("ACC" + (i % 1000))
+				.receivedAt(now)
+				.build());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+		context.close();
+	}
+
+	@Benchmark
+	public int create() {
+		if ("BULK".equals(mode)) {
+			return service.bulkCreate(BulkCreateDocumentTrackerRequest.builder().documents(documents).build()).getCreatedCount();
+		}
+		for (CreateDocumentTrackerRequest document : documents) {
+			service.create(document);
+		}
+		return documents.size();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(DocumentTrackerBulkCreateBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
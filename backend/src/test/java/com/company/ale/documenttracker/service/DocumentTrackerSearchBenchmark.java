@@ -0,0 +1,161 @@
+package com.company.ale.documenttracker.service;
+
+import com.company.ale.AlePocApplication;
+import com.company.ale.common.pagination.CountMode;
+import com.company.ale.common.pagination.PaginationMode;
+import com.company.ale.common.pagination.PaginationRequest;
+import com.company.ale.common.pagination.SearchExecutor;
+import com.company.ale.common.pagination.SearchPage;
+import com.company.ale.common.pagination.SearchRequest;
+import com.company.ale.common.pagination.SortRequest;
+import com.company.ale.documenttracker.domain.DocumentTracker;
+import com.company.ale.documenttracker.dto.DocumentTrackerDTO;
+import com.company.ale.documenttracker.repository.DocumentTrackerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap allocated per 200-row search page: managed entities mapped to DTOs (the
+ * previous path, ale.search.dto-projection=false) against tuples selected straight
+ * into DTOs, for OFFSET and KEYSET pages 25 pages deep.
+ *
+ * Boots the application on the test profile (in-memory H2) and seeds 10,000 documents.
+ * The figure to compare is gc.alloc.rate.norm (bytes per operation = per page) from the
+ * GC profiler; the H2 driver's own allocations are included in both modes.
+ *
+ * Run with the test classpath, e.g. from the IDE, or:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.company.ale.documenttracker.service.DocumentTrackerSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentTrackerSearchBenchmark {
+
+	private static final int DOCUMENTS = 10_000;
+	private static final int PAGE_SIZE = 200;
+	private static final int PAGE = 25;
+
+	@Param({"ENTITY", "PROJECTION"})
+	public String rows;
+
+	@Param({"OFFSET", "KEYSET"})
+	public PaginationMode paginationMode;
+
+	private ConfigurableApplicationContext context;
+	private SearchExecutor searchExecutor;
+	private DocumentTrackerRepository repository;
+	private DocumentTrackerMapper mapper;
+	private TransactionTemplate readOnly;
+	private SearchRequest request;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(AlePocApplication.class)
+			.profiles("test")
+			.properties("server.port=0", "logging.level.com.company.ale=WARN", "logging.level.org.springframework=WARN")
+			.run();
+		searchExecutor = context.getBean(SearchExecutor.class);
+		repository = context.getBean(DocumentTrackerRepository.class);
+		mapper = context.getBean(DocumentTrackerMapper.class);
+		readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnly.setReadOnly(true);
+
+		seed();
+		request = pageRequest();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public SearchPage<DocumentTrackerDTO> searchPage() {
+		return readOnly.execute(status -> search(request));
+	}
+
+	private SearchPage<DocumentTrackerDTO> search(SearchRequest searchRequest) {
+		DocumentTrackerSpecification spec = new DocumentTrackerSpecification(searchRequest.getFilters());
+		if ("PROJECTION".equals(rows)) {
+			return searchExecutor.search(repository, DocumentTracker.class, spec, searchRequest, mapper.searchProjection());
+		}
+		return searchExecutor.search(repository, DocumentTracker.class, spec, searchRequest).map(mapper::toDTO);
+	}
+
+	private void seed() {
+		List<DocumentTracker> documents = new ArrayList<>(DOCUMENTS);
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < DOCUMENTS; i++) {
+			documents.add(DocumentTracker.builder()
+				.genId(String.format("GEN%08d", 90_000_000 + i))
+				.documentName("Benchmark document " + i)
+				.documentDate(now.toLocalDate().minusDays(i % 365))
+				.documentType(i % 2 == 0 ? "INVOICE" : "STATEMENT")
+				.clientName("Client " + (i % 100))
+				.accountNumber("ACC" + (i % 1000))
+				.status("RECEIVED")
+				.businessUnit("BU" + (i % 10))
+				.receivedAt(now.minusMinutes(i))
+				.createdAt(now)
+				.createdBy("benchmark")
+				.build());
+		}
+		repository.saveAll(documents);
+	}
+
+	// Page PAGE of the list sorted by receivedAt, without a count query; in KEYSET mode
+	// the cursor is obtained by walking the preceding pages once
+	private SearchRequest pageRequest() {
+		SearchRequest searchRequest = new SearchRequest();
+		searchRequest.setFilters(Map.of());
+		searchRequest.setSort(List.of(SortRequest.builder().field("receivedAt").direction(Sort.Direction.DESC).build()));
+		searchRequest.setCountMode(CountMode.NONE);
+		PaginationRequest pagination = PaginationRequest.builder().size(PAGE_SIZE).mode(paginationMode).build();
+		searchRequest.setPagination(pagination);
+
+		if (paginationMode == PaginationMode.OFFSET) {
+			pagination.setPage(PAGE);
+			return searchRequest;
+		}
+		for (int page = 0; page < PAGE; page++) {
+			SearchPage<DocumentTrackerDTO> previous = readOnly.execute(status -> search(searchRequest));
+			pagination.setCursor(previous.getNextCursor());
+		}
+		return searchRequest;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(DocumentTrackerSearchBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+}
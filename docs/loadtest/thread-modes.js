@@ -0,0 +1,38 @@
+// k6 load test: platform vs virtual thread request execution
+// Run against a backend started once without and once with the "virtual" profile:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 docs/loadtest/thread-modes.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Number(__ENV.VUS || 400) },
+        { duration: '2m', target: Number(__ENV.VUS || 400) },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const search = JSON.stringify({ filters: {}, pagination: { page: 0, size: 20 } });
+
+export default function () {
+  // Search: one JDBC round trip per request (plus the count query)
+  const searchResponse = http.post(`${BASE_URL}/api/document-tracker/search`, search, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { endpoint: 'search' },
+  });
+  // Details: version lookup, then the serialized details cache
+  const detailsResponse = http.get(`${BASE_URL}/api/document-tracker/GEN00000001/details`, {
+    tags: { endpoint: 'details' },
+  });
+  check(searchResponse, { 'search 200': (r) => r.status === 200 });
+  check(detailsResponse, { 'details 200': (r) => r.status === 200 });
+}